@@ -0,0 +1,28 @@
+package com.bespring.domain.alarm.entity;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class UserAlarmBenchmark {
+
+    @Param({"0", "2"})
+    public int snoozeCount;
+
+    private UserAlarm alarm;
+
+    @Setup
+    public void setUp() {
+        alarm = UserAlarm.create(null, LocalDateTime.of(2024, 1, 15, 7, 30),
+                "부드럽게 깨워주세요. 오늘 9시에 회의가 있다고 알려주세요.", VoiceType.ALLOY);
+    }
+
+    @Benchmark
+    public String getInstructionsWithSnooze() {
+        return alarm.getInstructionsWithSnooze(snoozeCount);
+    }
+}
@@ -0,0 +1,57 @@
+package com.bespring.domain.call.entity;
+
+import com.bespring.domain.call.codec.BinaryConversationCodec;
+import com.bespring.domain.call.dto.Utterance;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CallLog.getConversationList 역직렬화 비용 (발화 10/100/1000개, 레거시 JSON / 바이너리 포맷)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CallLogConversationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int utterances;
+
+    @Param({"json", "binary"})
+    public String format;
+
+    private CallLog callLog;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<Utterance> conversation = new ArrayList<>(utterances);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 15, 7, 30);
+        for (int i = 0; i < utterances; i++) {
+            String speaker = i % 2 == 0 ? "assistant" : "user";
+            conversation.add(new Utterance(speaker, "좋은 아침이에요! 오늘 일정 기억나세요? " + i, start.plusSeconds(i * 5L)));
+        }
+
+        String json = new ObjectMapper().registerModule(new JavaTimeModule()).writeValueAsString(conversation);
+        CallLog.CallLogBuilder builder = CallLog.builder()
+                .id(1L)
+                .callStart(start)
+                .result(CallLog.CallResult.SUCCESS);
+        callLog = "binary".equals(format)
+                ? builder.conversationBlob(BinaryConversationCodec.encode(conversation)).build()
+                : builder.conversationData(json).build();
+
+        if (callLog.getConversationList().size() != utterances) {
+            throw new IllegalStateException("getConversationList did not parse the benchmark transcript");
+        }
+    }
+
+    @Benchmark
+    public List<Utterance> getConversationList() {
+        return callLog.getConversationList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.bespring.domain.call.service;
+
+import com.bespring.domain.call.buffer.LocalConversationBufferStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ConversationBuffer 동시 추가 처리량 (4 스레드, 로컬 저장소)
+ * - sharedSession: 모든 스레드가 같은 세션에 추가 (경합)
+ * - ownSession: 스레드별 세션에 추가
+ * 메모리 증가를 막기 위해 스레드당 4096건마다 세션을 비웁니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class ConversationBufferBenchmark {
+
+    private static final String TEXT = "네 일어났어요, 5분만 더 잘게요";
+
+    @State(Scope.Benchmark)
+    public static class BufferState {
+        ConversationBuffer buffer;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            buffer = new ConversationBuffer(new ObjectMapper(), new LocalConversationBufferStore(), new SimpleMeterRegistry());
+            buffer.init();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private static final AtomicInteger IDS = new AtomicInteger();
+
+        final String sessionId = "session-" + IDS.incrementAndGet();
+        int appended;
+    }
+
+    @Benchmark
+    public void sharedSession(BufferState state, ThreadState thread) {
+        state.buffer.addUserUtterance("shared", TEXT);
+        if ((++thread.appended & 4095) == 0) {
+            state.buffer.clearSession("shared");
+        }
+    }
+
+    @Benchmark
+    public void ownSession(BufferState state, ThreadState thread) {
+        state.buffer.addUserUtterance(thread.sessionId, TEXT);
+        if ((++thread.appended & 4095) == 0) {
+            state.buffer.clearSession(thread.sessionId);
+        }
+    }
+}
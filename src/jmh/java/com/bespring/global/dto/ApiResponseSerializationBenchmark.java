@@ -0,0 +1,82 @@
+package com.bespring.global.dto;
+
+import com.bespring.domain.alarm.dto.response.AlarmResponse;
+import com.bespring.domain.alarm.entity.VoiceType;
+import com.bespring.domain.statistics.dto.response.OverviewStatsResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse 직렬화 비용 (애플리케이션과 같은 SNAKE_CASE / NON_NULL 설정)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<AlarmResponse> alarm;
+    private ApiResponse<List<AlarmResponse>> alarmList;
+    private ApiResponse<OverviewStatsResponse> overview;
+    private ApiResponse<Void> error;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 6, 0);
+        List<AlarmResponse> alarms = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            alarms.add(new AlarmResponse((long) i, now.plusDays(i).withHour(7), "부드럽게 깨워주세요",
+                    VoiceType.ALLOY, VoiceType.ALLOY.getDescription(), true, now, now));
+        }
+
+        alarm = ApiResponse.success(alarms.get(0));
+        alarmList = ApiResponse.success(alarms);
+        overview = ApiResponse.success(OverviewStatsResponse.builder()
+                .totalAlarms(120L)
+                .successAlarms(96L)
+                .missedAlarms(24L)
+                .successRate(80.0)
+                .consecutiveDays(7)
+                .averageWakeTime("07:12")
+                .last30DaysSuccessRate(83.3)
+                .monthlySuccessRate(85.0)
+                .monthlyPoints(1500)
+                .build());
+        error = ApiResponse.error("ALARM_001", "알람을 찾을 수 없습니다.", "알람 ID: 123");
+    }
+
+    @Benchmark
+    public byte[] singleAlarm() throws Exception {
+        return objectMapper.writeValueAsBytes(alarm);
+    }
+
+    @Benchmark
+    public byte[] alarmList() throws Exception {
+        return objectMapper.writeValueAsBytes(alarmList);
+    }
+
+    @Benchmark
+    public byte[] overviewStats() throws Exception {
+        return objectMapper.writeValueAsBytes(overview);
+    }
+
+    @Benchmark
+    public byte[] errorResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(error);
+    }
+}
@@ -0,0 +1,73 @@
+package com.bespring.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 인증 경로 벤치마크
+ * - legacyDoubleParse: 변경 전 경로 (요청마다 parser 생성 + isTokenValid/getUserIdFromToken 2회 파싱)
+ * - singleParse: 미리 생성한 parser로 1회 검증
+ * - filter: 필터 전체 (cacheEnabled=false → 매 요청 검증, true → 검증 캐시 적중)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJwtAuthenticationFilterMustBe256BitsOrLonger";
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private SecretKey key;
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private String bearer;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        jwtUtil = new JwtUtil(SECRET, TimeUnit.HOURS.toMillis(1));
+        JwtVerificationCache cache = new JwtVerificationCache(jwtUtil, cacheEnabled, 10_000, 600, new SimpleMeterRegistry());
+        // 폐기되지 않은 토큰은 Bloom filter 음성이므로 Redis 없이 동작
+        TokenBlacklist blacklist = new TokenBlacklist(jwtUtil, null, null);
+        ReflectionTestUtils.setField(blacklist, "filter", BloomFilter.create(100_000, 0.01));
+        filter = new JwtAuthenticationFilter(jwtUtil, cache, blacklist);
+        token = jwtUtil.generateToken(12345L);
+        bearer = "Bearer " + token;
+    }
+
+    @Benchmark
+    public Long legacyDoubleParse() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        return Long.valueOf(claims.getSubject());
+    }
+
+    @Benchmark
+    public VerifiedToken singleParse() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/statistics/overview");
+        request.addHeader("Authorization", bearer);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,32 @@
+package com.bespring.global.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJwtUtilMustBe256BitsOrLongerForHS256Algorithm";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, TimeUnit.HOURS.toMillis(1));
+        token = jwtUtil.generateToken(12345L);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(12345L);
+    }
+
+    @Benchmark
+    public Long getUserIdFromToken() {
+        return jwtUtil.getUserIdFromToken(token);
+    }
+}
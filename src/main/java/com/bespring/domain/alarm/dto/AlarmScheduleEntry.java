@@ -0,0 +1,15 @@
+package com.bespring.domain.alarm.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알람 디스패치 인덱스 재구성용 활성 알람 스케줄 (id, 사용자, 알람 시간)
+ */
+public interface AlarmScheduleEntry {
+
+    Long getAlarmId();
+
+    Long getUserId();
+
+    LocalDateTime getAlarmTime();
+}
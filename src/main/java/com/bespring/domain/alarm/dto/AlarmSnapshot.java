@@ -0,0 +1,40 @@
+package com.bespring.domain.alarm.dto;
+
+import com.bespring.domain.alarm.entity.UserAlarm;
+import com.bespring.domain.alarm.entity.VoiceType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세션 생성 경로에서 사용하는 알람 스냅샷 (캐시 저장용, 엔티티와 분리)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AlarmSnapshot {
+
+    private Long alarmId;
+    private Long userId;
+    private LocalDateTime alarmTime;
+    private String instructions;
+    private VoiceType voice;
+    private Boolean active;
+
+    public static AlarmSnapshot of(Long userId, UserAlarm userAlarm) {
+        return new AlarmSnapshot(
+            userAlarm.getId(),
+            userId,
+            userAlarm.getAlarmTime(),
+            userAlarm.getInstructions(),
+            userAlarm.getVoice(),
+            userAlarm.getActive()
+        );
+    }
+
+    public String getInstructionsWithSnooze(int snoozeCount) {
+        return UserAlarm.appendSnoozeMessage(instructions, snoozeCount);
+    }
+}
@@ -9,7 +9,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_alarms")
+@Table(name = "user_alarms", indexes = {
+        @Index(name = "idx_user_alarms_active_time", columnList = "active, alarm_time"),
+        @Index(name = "idx_user_alarms_user_active_time", columnList = "user_id, active, alarm_time")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -74,8 +77,12 @@ public class UserAlarm {
 
     // 스누즈 횟수가 있을 때 instructions에 추가하는 메서드
     public String getInstructionsWithSnooze(int snoozeCount) {
+        return appendSnoozeMessage(this.instructions, snoozeCount);
+    }
+
+    public static String appendSnoozeMessage(String instructions, int snoozeCount) {
         if (snoozeCount == 0) {
-            return this.instructions;
+            return instructions;
         }
 
         String snoozeMessage = String.format(
@@ -83,6 +90,6 @@ public class UserAlarm {
             snoozeCount
         );
 
-        return this.instructions + snoozeMessage;
+        return instructions + snoozeMessage;
     }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.bespring.domain.alarm.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알람 생성/수정/비활성화 이벤트 (알람 캐시 무효화용)
+ */
+@Getter
+@AllArgsConstructor
+public class AlarmChangedEvent {
+
+    private final Long userId;
+    private final Long alarmId;
+}
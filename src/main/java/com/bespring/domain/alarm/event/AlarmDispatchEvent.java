@@ -0,0 +1,19 @@
+package com.bespring.domain.alarm.event;
+
+import com.bespring.domain.alarm.dto.AlarmSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알람 디스패치 이벤트 (알람 시간 lead-time 전, 클러스터 전체에서 알람당 한 노드만 발행)
+ * 세션 사전 생성 등 알람 직전 작업은 이 이벤트를 구독합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AlarmDispatchEvent {
+
+    private final AlarmSnapshot alarm;
+    private final LocalDateTime dispatchedAt;
+}
@@ -1,6 +1,8 @@
 package com.bespring.domain.alarm.repository;
 
+import com.bespring.domain.alarm.dto.AlarmScheduleEntry;
 import com.bespring.domain.alarm.entity.UserAlarm;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -31,6 +33,17 @@ public interface UserAlarmRepository extends JpaRepository<UserAlarm, Long> {
         @Param("endTime") LocalDateTime endTime
     );
 
+    // 활성 알람 스케줄 keyset 조회 (알람 디스패치 인덱스 재구성용, (alarmTime, id) 이후부터)
+    @Query("SELECT ua.id AS alarmId, ua.user.id AS userId, ua.alarmTime AS alarmTime FROM UserAlarm ua " +
+           "WHERE ua.active = true " +
+           "AND (ua.alarmTime > :afterTime OR (ua.alarmTime = :afterTime AND ua.id > :afterId)) " +
+           "ORDER BY ua.alarmTime ASC, ua.id ASC")
+    List<AlarmScheduleEntry> findActiveScheduleAfter(
+        @Param("afterTime") LocalDateTime afterTime,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
     // 사용자의 활성화된 알람 개수
     long countByUser_IdAndActive(Long userId, Boolean active);
 
@@ -0,0 +1,168 @@
+package com.bespring.domain.alarm.service;
+
+import com.bespring.domain.alarm.dto.AlarmSnapshot;
+import com.bespring.domain.alarm.event.AlarmDispatchEvent;
+import com.bespring.global.exception.CustomException;
+import com.bespring.global.scheduling.TimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 분산 알람 디스패처
+ * 노드마다 lookahead 구간의 알람을 AlarmScheduleIndex에서 claim하여 로컬 타이밍 휠에 등록하고,
+ * 알람 시각 lead-time 전에 AlarmDispatchEvent를 발행합니다. claim이 원자적이므로 알람당 한 노드만 발행하며,
+ * 발행 직전에 알람 스냅샷을 다시 확인하여 claim 이후 비활성화/시간 변경된 알람은 건너뜁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.alarm.dispatch.enabled", havingValue = "true")
+public class AlarmDispatcher {
+
+    private static final String RECONCILE_LOCK_KEY = "alarm:schedule:reconcile:lock";
+
+    private final AlarmScheduleIndex scheduleIndex;
+    private final AlarmSnapshotCache alarmSnapshotCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.alarm.dispatch.lead-ms:30000}")
+    private long leadMillis;
+
+    // claim 주기보다 충분히 길어야 하며, 노드 장애 시 이 구간의 알람은 grace 이후 다른 노드가 처리
+    @Value("${app.alarm.dispatch.lookahead-ms:60000}")
+    private long lookaheadMillis;
+
+    @Value("${app.alarm.dispatch.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.alarm.dispatch.inflight-grace-ms:60000}")
+    private long inflightGraceMillis;
+
+    @Value("${app.alarm.dispatch.tick-ms:100}")
+    private long tickMillis;
+
+    @Value("${app.alarm.dispatch.wheel-size:2048}")
+    private int wheelSize;
+
+    @Value("${app.alarm.dispatch.workers:4}")
+    private int workers;
+
+    @Value("${app.alarm.dispatch.reconcile-interval-ms:3600000}")
+    private long reconcileIntervalMillis;
+
+    private TimingWheel wheel;
+    private ExecutorService dispatchExecutor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        dispatchExecutor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "alarm-dispatch-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        wheel = new TimingWheel("alarm-dispatch", tickMillis, wheelSize, dispatchExecutor);
+        Gauge.builder("alarm.dispatch.pending", wheel, TimingWheel::getPendingCount)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        wheel.close();
+        dispatchExecutor.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${app.alarm.dispatch.claim-interval-ms:1000}")
+    public void claimDue() {
+        long now = System.currentTimeMillis();
+        try {
+            long requeued = scheduleIndex.requeueExpired(now - inflightGraceMillis, batchSize);
+            if (requeued > 0) {
+                meterRegistry.counter("alarm.dispatch.requeued").increment(requeued);
+                log.warn("Requeued {} alarms left unfinished by another dispatcher", requeued);
+            }
+
+            // 발행 시각(알람 시각 - lead)이 lookahead 안에 들어온 알람을 모두 꺼냄
+            long horizon = now + leadMillis + lookaheadMillis;
+            List<AlarmScheduleIndex.ClaimedAlarm> claimed;
+            do {
+                claimed = scheduleIndex.claim(horizon, batchSize);
+                for (AlarmScheduleIndex.ClaimedAlarm alarm : claimed) {
+                    wheel.schedule(() -> dispatch(alarm), alarm.fireAtMillis() - leadMillis - now);
+                }
+                meterRegistry.counter("alarm.dispatch.claimed").increment(claimed.size());
+            } while (claimed.size() == batchSize);
+        } catch (Exception e) {
+            log.warn("Redis is not available, alarm claim skipped: {}", e.getMessage());
+        }
+    }
+
+    // 기동 직후와 주기적으로 DB 기준 스케줄을 인덱스에 다시 반영 (클러스터 전체에서 주기당 한 노드만)
+    @Scheduled(fixedDelayString = "${app.alarm.dispatch.reconcile-interval-ms:3600000}",
+            initialDelayString = "${app.alarm.dispatch.reconcile-initial-delay-ms:30000}")
+    public void reconcile() {
+        try {
+            Boolean locked = redisTemplate.opsForValue()
+                    .setIfAbsent(RECONCILE_LOCK_KEY, "1", Duration.ofMillis(reconcileIntervalMillis / 2));
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+            // claim 가능 구간 이후만 다시 등록하여 이미 claim된 알람이 중복 발송되지 않도록 함
+            LocalDateTime after = LocalDateTime.now().plus(Duration.ofMillis(leadMillis + lookaheadMillis + tickMillis));
+            long restored = scheduleIndex.rebuildAfter(after, batchSize);
+            log.info("Alarm schedule index reconciled: {} active alarms after {}", restored, after);
+        } catch (Exception e) {
+            log.warn("Redis is not available, alarm schedule reconciliation skipped: {}", e.getMessage());
+        }
+    }
+
+    private void dispatch(AlarmScheduleIndex.ClaimedAlarm claimed) {
+        try {
+            AlarmSnapshot alarm = current(claimed);
+            if (alarm == null) {
+                meterRegistry.counter("alarm.dispatch.events", "outcome", "skipped").increment();
+                return;
+            }
+            eventPublisher.publishEvent(new AlarmDispatchEvent(alarm, LocalDateTime.now()));
+            meterRegistry.counter("alarm.dispatch.events", "outcome", "dispatched").increment();
+        } catch (Exception e) {
+            meterRegistry.counter("alarm.dispatch.events", "outcome", "failed").increment();
+            log.warn("Failed to dispatch alarm {}: {}", claimed.alarmId(), e.getMessage());
+        } finally {
+            scheduleIndex.complete(claimed);
+        }
+    }
+
+    // claim 이후 비활성화되었거나 시간이 바뀐 알람은 null (바뀐 시간은 인덱스에 다시 등록되어 있음)
+    private AlarmSnapshot current(AlarmScheduleIndex.ClaimedAlarm claimed) {
+        try {
+            AlarmSnapshot alarm = alarmSnapshotCache.get(claimed.userId(), claimed.alarmId());
+            if (!Boolean.TRUE.equals(alarm.getActive())
+                    || AlarmScheduleIndex.toEpochMillis(alarm.getAlarmTime()) != claimed.fireAtMillis()) {
+                return null;
+            }
+            return alarm;
+        } catch (CustomException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.bespring.domain.alarm.service;
+
+import com.bespring.domain.alarm.dto.AlarmScheduleEntry;
+import com.bespring.domain.alarm.event.AlarmChangedEvent;
+import com.bespring.domain.alarm.repository.UserAlarmRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 활성 알람 발송 시각 인덱스 (Redis ZSET alarm:{schedule}, member = alarmId:userId, score = 알람 시각 epoch ms)
+ * 알람 변경 트랜잭션 커밋 후 DB 상태를 다시 읽어 반영하고, 노드들은 Lua 스크립트로 도래한 구간을
+ * 원자적으로 꺼내 처리 중 ZSET(alarm:{schedule}:inflight)으로 옮기므로 알람당 한 노드만 claim합니다.
+ * 처리 중 노드가 죽으면 grace 이후 inflight 항목을 스케줄로 되돌립니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.alarm.dispatch.enabled", havingValue = "true")
+public class AlarmScheduleIndex {
+
+    // 클러스터 모드에서 두 키가 같은 슬롯에 있도록 hash tag 사용
+    private static final String SCHEDULE_KEY = "alarm:{schedule}";
+    private static final String INFLIGHT_KEY = "alarm:{schedule}:inflight";
+
+    // 도래한 항목을 score 순으로 limit개 꺼내 inflight로 이동 (member, score 순서로 반환)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local m = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, ARGV[2]) " +
+            "for i = 1, #m, 2 do " +
+            "redis.call('ZADD', KEYS[2], m[i + 1], m[i]) " +
+            "redis.call('ZREM', KEYS[1], m[i]) " +
+            "end " +
+            "return m", List.class);
+
+    // grace가 지난 inflight 항목을 스케줄로 되돌림 (그 사이 변경되어 다시 등록된 항목은 유지)
+    private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "local m = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, ARGV[2]) " +
+            "for i = 1, #m, 2 do " +
+            "redis.call('ZADD', KEYS[2], 'NX', m[i + 1], m[i]) " +
+            "redis.call('ZREM', KEYS[1], m[i]) " +
+            "end " +
+            "return #m / 2", Long.class);
+
+    // 같은 발송 시각으로 claim된 항목일 때만 inflight에서 제거
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "local s = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if s and tonumber(s) == tonumber(ARGV[2]) then return redis.call('ZREM', KEYS[1], ARGV[1]) end " +
+            "return 0", Long.class);
+
+    // 변경된 알람 반영
+    // - 비활성: 스케줄에서만 제거 (이미 claim된 타이머는 발송 직전 확인에서 건너뛰고 inflight를 정리)
+    // - 같은 시각으로 이미 claim됨: 그대로 둠 (내용 수정/재활성화로 다시 claim되어 중복 발송되지 않도록)
+    // - 다른 시각으로 claim됨: claim을 해제하고 새 시각으로 등록 (기존 타이머는 시각 불일치로 건너뜀)
+    private static final RedisScript<Long> UPSERT_SCRIPT = new DefaultRedisScript<>(
+            "if ARGV[2] == '' then return redis.call('ZREM', KEYS[1], ARGV[1]) end " +
+            "local claimed = redis.call('ZSCORE', KEYS[2], ARGV[1]) " +
+            "if claimed and tonumber(claimed) == tonumber(ARGV[2]) then " +
+            "redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "return 0 " +
+            "end " +
+            "if claimed then redis.call('ZREM', KEYS[2], ARGV[1]) end " +
+            "return redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserAlarmRepository userAlarmRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAlarmChanged(AlarmChangedEvent event) {
+        try {
+            // 변경 종류와 관계없이 커밋된 상태를 다시 읽어 반영 (비활성/삭제면 제거)
+            String score = userAlarmRepository.findById(event.getAlarmId())
+                    .filter(alarm -> Boolean.TRUE.equals(alarm.getActive()))
+                    .map(alarm -> String.valueOf(toEpochMillis(alarm.getAlarmTime())))
+                    .orElse("");
+            redisTemplate.execute(UPSERT_SCRIPT, List.of(SCHEDULE_KEY, INFLIGHT_KEY),
+                    member(event.getAlarmId(), event.getUserId()), score);
+        } catch (Exception e) {
+            log.warn("Alarm schedule update skipped for alarm {}, reconciliation will restore it: {}",
+                    event.getAlarmId(), e.getMessage());
+        }
+    }
+
+    /**
+     * maxEpochMillis 이전에 울릴 알람을 최대 limit개 claim
+     * 같은 항목은 클러스터 전체에서 한 번만 반환됩니다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<ClaimedAlarm> claim(long maxEpochMillis, int limit) {
+        List<Object> raw = redisTemplate.execute(CLAIM_SCRIPT, List.of(SCHEDULE_KEY, INFLIGHT_KEY),
+                String.valueOf(maxEpochMillis), String.valueOf(limit));
+        if (raw == null || raw.isEmpty()) {
+            return List.of();
+        }
+
+        List<ClaimedAlarm> claimed = new ArrayList<>(raw.size() / 2);
+        for (int i = 0; i + 1 < raw.size(); i += 2) {
+            String member = (String) raw.get(i);
+            int separator = member.indexOf(':');
+            claimed.add(new ClaimedAlarm(
+                    Long.valueOf(member.substring(0, separator)),
+                    Long.valueOf(member.substring(separator + 1)),
+                    (long) Double.parseDouble((String) raw.get(i + 1))));
+        }
+        return claimed;
+    }
+
+    public void complete(ClaimedAlarm alarm) {
+        try {
+            redisTemplate.execute(COMPLETE_SCRIPT, List.of(INFLIGHT_KEY),
+                    member(alarm.alarmId(), alarm.userId()), String.valueOf(alarm.fireAtMillis()));
+        } catch (Exception e) {
+            log.warn("Redis is not available, alarm {} left in inflight index: {}", alarm.alarmId(), e.getMessage());
+        }
+    }
+
+    /**
+     * maxEpochMillis 이전 발송 시각으로 claim된 채 남은 항목을 스케줄로 되돌림
+     * @return 되돌린 항목 수
+     */
+    public long requeueExpired(long maxEpochMillis, int limit) {
+        Long requeued = redisTemplate.execute(REQUEUE_SCRIPT, List.of(INFLIGHT_KEY, SCHEDULE_KEY),
+                String.valueOf(maxEpochMillis), String.valueOf(limit));
+        return requeued == null ? 0 : requeued;
+    }
+
+    /**
+     * after 이후 활성 알람을 DB에서 keyset으로 읽어 인덱스에 다시 등록 (Redis 유실/장애 복구용)
+     * claim 가능 구간(after 이전)은 건드리지 않으므로 이미 claim된 알람이 다시 발송되지 않습니다.
+     * @return 등록한 알람 수
+     */
+    public long rebuildAfter(LocalDateTime after, int batchSize) {
+        LocalDateTime cursorTime = after;
+        Long cursorId = Long.MAX_VALUE;
+        long total = 0;
+        List<AlarmScheduleEntry> page;
+        do {
+            page = userAlarmRepository.findActiveScheduleAfter(cursorTime, cursorId, PageRequest.of(0, batchSize));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(page.size() * 2);
+            for (AlarmScheduleEntry entry : page) {
+                tuples.add(new DefaultTypedTuple<>(member(entry.getAlarmId(), entry.getUserId()),
+                        (double) toEpochMillis(entry.getAlarmTime())));
+            }
+            redisTemplate.opsForZSet().add(SCHEDULE_KEY, tuples);
+            total += page.size();
+
+            AlarmScheduleEntry last = page.get(page.size() - 1);
+            cursorTime = last.getAlarmTime();
+            cursorId = last.getAlarmId();
+        } while (page.size() == batchSize);
+        return total;
+    }
+
+    public static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String member(Long alarmId, Long userId) {
+        return alarmId + ":" + userId;
+    }
+
+    public record ClaimedAlarm(Long alarmId, Long userId, long fireAtMillis) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.bespring.domain.alarm.service;
+
+import com.bespring.domain.alarm.dto.AlarmSnapshot;
+import com.bespring.domain.alarm.event.AlarmChangedEvent;
+import com.bespring.domain.alarm.repository.UserAlarmRepository;
+import com.bespring.global.cache.TwoTierCache;
+import com.bespring.global.cache.TwoTierCacheManager;
+import com.bespring.global.exception.CustomException;
+import com.bespring.global.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * (userId, alarmId) 기준 알람 스냅샷 캐시 (L1 Caffeine + L2 Redis)
+ * 알람 변경 트랜잭션 커밋 후 무효화되며, 다른 노드의 L1은 pub/sub으로 정리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AlarmSnapshotCache {
+
+    private final UserAlarmRepository userAlarmRepository;
+    private final TwoTierCacheManager cacheManager;
+
+    @Value("${app.cache.alarm.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${app.cache.alarm.local-ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    @Value("${app.cache.alarm.remote-ttl-seconds:600}")
+    private long remoteTtlSeconds;
+
+    private TwoTierCache<AlarmSnapshot> cache;
+
+    @PostConstruct
+    void init() {
+        cache = cacheManager.create("alarm", AlarmSnapshot.class, localMaxSize,
+                Duration.ofSeconds(localTtlSeconds), Duration.ofSeconds(remoteTtlSeconds));
+    }
+
+    public AlarmSnapshot get(Long userId, Long alarmId) {
+        AlarmSnapshot snapshot = cache.get(key(userId, alarmId), () ->
+                userAlarmRepository.findByIdAndUser_Id(alarmId, userId)
+                        .map(alarm -> AlarmSnapshot.of(userId, alarm))
+                        .orElse(null));
+
+        if (snapshot == null) {
+            throw new CustomException(ErrorCode.ALARM_NOT_FOUND);
+        }
+        return snapshot;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAlarmChanged(AlarmChangedEvent event) {
+        cache.evict(key(event.getUserId(), event.getAlarmId()));
+    }
+
+    private String key(Long userId, Long alarmId) {
+        return userId + ":" + alarmId;
+    }
+}
@@ -1,6 +1,7 @@
 package com.bespring.domain.alarm.service;
 
 import com.bespring.domain.alarm.entity.UserAlarm;
+import com.bespring.domain.alarm.event.AlarmChangedEvent;
 import com.bespring.domain.alarm.repository.UserAlarmRepository;
 import com.bespring.domain.user.entity.User;
 import com.bespring.domain.user.repository.UserRepository;
@@ -8,6 +9,7 @@ import com.bespring.global.exception.CustomException;
 import com.bespring.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class UserAlarmService {
 
     private final UserAlarmRepository userAlarmRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 알람 생성
     public UserAlarm createAlarm(Long userId, LocalDateTime alarmTime, String instructions, com.bespring.domain.alarm.entity.VoiceType voice) {
@@ -53,6 +56,7 @@ public class UserAlarmService {
 
         UserAlarm userAlarm = UserAlarm.create(user, alarmTime, instructions, voice);
         UserAlarm savedAlarm = userAlarmRepository.save(userAlarm);
+        eventPublisher.publishEvent(new AlarmChangedEvent(userId, savedAlarm.getId()));
 
         log.info("Created alarm for user {}: alarmId={}, alarmTime={}",
                 userId, savedAlarm.getId(), alarmTime);
@@ -92,6 +96,7 @@ public class UserAlarmService {
 
         alarm.deactivate();
         userAlarmRepository.save(alarm);
+        eventPublisher.publishEvent(new AlarmChangedEvent(userId, alarmId));
 
         log.info("Deactivated alarm: userId={}, alarmId={}", userId, alarmId);
     }
@@ -115,6 +120,7 @@ public class UserAlarmService {
 
         alarm.updateAlarm(alarmTime, instructions, voice);
         UserAlarm updatedAlarm = userAlarmRepository.save(alarm);
+        eventPublisher.publishEvent(new AlarmChangedEvent(userId, alarmId));
 
         log.info("Updated alarm: userId={}, alarmId={}, newTime={}",
                 userId, alarmId, alarmTime);
@@ -122,7 +128,7 @@ public class UserAlarmService {
         return updatedAlarm;
     }
 
-    // 특정 시간대의 알람들 조회 (스케줄러용)
+    // 특정 시간대의 알람들 조회 (발송은 AlarmDispatcher가 Redis 시각 인덱스로 처리)
     @Transactional(readOnly = true)
     public List<UserAlarm> getAlarmsInTimeRange(LocalDateTime startTime, LocalDateTime endTime) {
         return userAlarmRepository.findActiveAlarmsBetween(startTime, endTime);
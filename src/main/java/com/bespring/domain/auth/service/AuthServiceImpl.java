@@ -8,16 +8,15 @@ import com.bespring.domain.user.service.UserService;
 import com.bespring.global.exception.DuplicateResourceException;
 import com.bespring.global.exception.UserNotFoundException;
 import com.bespring.global.security.JwtUtil;
+import com.bespring.global.security.JwtVerificationCache;
+import com.bespring.global.security.TokenBlacklist;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.TimeUnit;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -27,10 +26,8 @@ public class AuthServiceImpl implements AuthService {
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
-    private final RedisTemplate<String, String> redisTemplate;
-
-    private static final String BLACKLIST_PREFIX = "blacklist:";
-    private static final long TOKEN_EXPIRATION = 24 * 60 * 60; // 24 hours in seconds
+    private final TokenBlacklist tokenBlacklist;
+    private final JwtVerificationCache jwtVerificationCache;
 
     @Override
     public AuthResponse register(RegisterRequest request) {
@@ -84,31 +81,18 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public void logout(String token) {
         if (token != null) {
-            try {
-                // Redis에 토큰 블랙리스트 추가
-                redisTemplate.opsForValue().set(
-                        BLACKLIST_PREFIX + token,
-                        "blacklisted",
-                        TOKEN_EXPIRATION,
-                        TimeUnit.SECONDS
-                );
-                log.info("Token blacklisted: {}", token.substring(0, Math.min(20, token.length())) + "...");
-            } catch (Exception e) {
-                log.warn("Redis is not available, token blacklisting skipped: {}", e.getMessage());
-            }
+            // 토큰 블랙리스트 추가 (토큰 남은 수명 동안 보관, 모든 노드에 전파)
+            tokenBlacklist.revoke(token);
+            jwtVerificationCache.evict(token);
+            log.info("Token blacklisted: {}", token.substring(0, Math.min(20, token.length())) + "...");
         }
     }
 
     @Override
     public boolean isTokenValid(String token) {
-        try {
-            // Redis 블랙리스트 확인
-            String blacklisted = redisTemplate.opsForValue().get(BLACKLIST_PREFIX + token);
-            if (blacklisted != null) {
-                return false;
-            }
-        } catch (Exception e) {
-            log.warn("Redis is not available, token blacklist check skipped: {}", e.getMessage());
+        // 블랙리스트 확인 (Bloom filter 양성인 경우에만 Redis 조회)
+        if (tokenBlacklist.isRevoked(token)) {
+            return false;
         }
 
         // JWT 유효성 확인
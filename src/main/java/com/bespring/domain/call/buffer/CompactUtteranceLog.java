@@ -0,0 +1,142 @@
+package com.bespring.domain.call.buffer;
+
+import com.bespring.domain.call.dto.Utterance;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 세션 하나의 발화를 배열로 압축 보관 (Utterance 객체 대신 화자 코드/epoch 마이크로초/텍스트 배열)
+ * 스레드 안전하지 않으므로 호출자가 ConcurrentHashMap.compute 등으로 직렬화해야 합니다.
+ */
+public class CompactUtteranceLog {
+
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final List<String> speakers = new ArrayList<>(4);
+    private byte[] speakerCodes = new byte[8];
+    private long[] timestamps = new long[8];
+    private String[] texts = new String[8];
+    private int size;
+    // trimTo로 앞에서 제거된 발화 수 (첫 발화의 seq)
+    private long trimmed;
+    private long bytes;
+    private long touchedAtMillis = System.currentTimeMillis();
+
+    public void add(Utterance utterance) {
+        ensureCapacity(size + 1);
+        speakerCodes[size] = speakerCode(utterance.getSpeaker());
+        timestamps[size] = utterance.getTimestamp() == null
+                ? NO_TIMESTAMP : ChronoUnit.MICROS.between(EPOCH, utterance.getTimestamp());
+        texts[size] = utterance.getText();
+        size++;
+        bytes += estimateBytes(utterance);
+        touchedAtMillis = System.currentTimeMillis();
+    }
+
+    public void addAll(List<Utterance> utterances) {
+        for (Utterance utterance : utterances) {
+            add(utterance);
+        }
+    }
+
+    public List<Utterance> toList() {
+        return toList(0);
+    }
+
+    public List<Utterance> toList(int fromIndex) {
+        List<Utterance> utterances = new ArrayList<>(Math.max(0, size - fromIndex));
+        for (int i = Math.max(0, fromIndex); i < size; i++) {
+            utterances.add(get(i));
+        }
+        return utterances;
+    }
+
+    // 오래된 발화부터 제거하여 최대 maxLen개만 유지
+    public void trimTo(int maxLen) {
+        int drop = size - maxLen;
+        if (drop <= 0) {
+            return;
+        }
+        for (int i = 0; i < drop; i++) {
+            bytes -= estimateBytes(texts[i]);
+        }
+        System.arraycopy(speakerCodes, drop, speakerCodes, 0, maxLen);
+        System.arraycopy(timestamps, drop, timestamps, 0, maxLen);
+        System.arraycopy(texts, drop, texts, 0, maxLen);
+        Arrays.fill(texts, maxLen, size, null);
+        size = maxLen;
+        trimmed += drop;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long trimmedCount() {
+        return trimmed;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long bytes() {
+        return bytes;
+    }
+
+    public long touchedAtMillis() {
+        return touchedAtMillis;
+    }
+
+    // 메모리 사용량 추정치 (문자열 본문 + 배열 슬롯)
+    public static long estimateBytes(Utterance utterance) {
+        return estimateBytes(utterance.getText());
+    }
+
+    private static long estimateBytes(String text) {
+        return 24L + (text == null ? 0 : 40L + text.length() * 2L);
+    }
+
+    private Utterance get(int index) {
+        byte code = speakerCodes[index];
+        long micros = timestamps[index];
+        return new Utterance(
+                code < 0 ? null : speakers.get(code),
+                texts[index],
+                micros == NO_TIMESTAMP ? null : LocalDateTime.ofEpochSecond(
+                        Math.floorDiv(micros, 1_000_000L),
+                        (int) Math.floorMod(micros, 1_000_000L) * 1000,
+                        ZoneOffset.UTC));
+    }
+
+    private byte speakerCode(String speaker) {
+        if (speaker == null) {
+            return -1;
+        }
+        int index = speakers.indexOf(speaker);
+        if (index < 0) {
+            if (speakers.size() == Byte.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct speakers in a session");
+            }
+            speakers.add(speaker);
+            index = speakers.size() - 1;
+        }
+        return (byte) index;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= texts.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, texts.length * 2);
+        speakerCodes = Arrays.copyOf(speakerCodes, newCapacity);
+        timestamps = Arrays.copyOf(timestamps, newCapacity);
+        texts = Arrays.copyOf(texts, newCapacity);
+    }
+}
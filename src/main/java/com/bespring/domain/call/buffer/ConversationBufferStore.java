@@ -0,0 +1,34 @@
+package com.bespring.domain.call.buffer;
+
+import com.bespring.domain.call.dto.Utterance;
+
+import java.util.List;
+
+/**
+ * 세션별 대화 버퍼 저장소
+ * ConversationBuffer의 로컬 write-behind 버퍼가 모은 발화를 묶어서 기록합니다.
+ */
+public interface ConversationBufferStore {
+
+    // 세션 끝에 발화 추가 (추가 순서대로 seq 부여, 세션별 최대 길이를 넘으면 오래된 발화부터 제거)
+    void append(String sessionId, List<Utterance> utterances);
+
+    List<Utterance> read(String sessionId);
+
+    // fromSeq 이상인 발화만 seq 순으로 조회
+    List<SequencedUtterance> readFrom(String sessionId, long fromSeq);
+
+    // 다음에 부여할 seq (제거된 발화를 포함해 지금까지 추가된 발화 수)
+    long nextSeq(String sessionId);
+
+    long size(String sessionId);
+
+    boolean exists(String sessionId);
+
+    void delete(String sessionId);
+
+    // idleMillis 동안 추가가 없던 세션 제거 (저장소 자체 TTL이 있으면 no-op)
+    default int evictIdle(long idleMillis) {
+        return 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.bespring.domain.call.buffer;
+
+/**
+ * 대화 버퍼 저장소에 기록/조회할 수 없어 세션의 전체 대화를 돌려줄 수 없을 때 발생
+ * 로컬에 남은 일부 발화만으로는 순서(seq)를 알 수 없으므로 호출자는 이번 처리를 건너뛰고 다시 시도해야 합니다.
+ */
+public class ConversationBufferUnavailableException extends RuntimeException {
+
+    public ConversationBufferUnavailableException(String sessionId, Throwable cause) {
+        super("Conversation buffer store is not available for session " + sessionId, cause);
+    }
+}
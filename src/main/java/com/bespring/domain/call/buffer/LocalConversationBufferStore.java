@@ -0,0 +1,97 @@
+package com.bespring.domain.call.buffer;
+
+import com.bespring.domain.call.dto.Utterance;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 메모리 대화 버퍼 저장소 (app.call.buffer.backend=local)
+ * 노드를 옮긴 세션의 버퍼는 공유되지 않으므로 로컬 개발/테스트 용도입니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.call.buffer.backend", havingValue = "local")
+public class LocalConversationBufferStore implements ConversationBufferStore {
+
+    private final Map<String, CompactUtteranceLog> sessions = new ConcurrentHashMap<>();
+
+    @Value("${app.call.buffer.max-len:2000}")
+    private int maxLen = 2000;
+
+    @Override
+    public void append(String sessionId, List<Utterance> utterances) {
+        sessions.compute(sessionId, (id, log) -> {
+            CompactUtteranceLog target = log != null ? log : new CompactUtteranceLog();
+            target.addAll(utterances);
+            target.trimTo(maxLen);
+            return target;
+        });
+    }
+
+    @Override
+    public List<Utterance> read(String sessionId) {
+        List<Utterance> result = new ArrayList<>();
+        sessions.computeIfPresent(sessionId, (id, log) -> {
+            result.addAll(log.toList());
+            return log;
+        });
+        return result;
+    }
+
+    @Override
+    public List<SequencedUtterance> readFrom(String sessionId, long fromSeq) {
+        List<SequencedUtterance> result = new ArrayList<>();
+        sessions.computeIfPresent(sessionId, (id, log) -> {
+            long firstSeq = log.trimmedCount();
+            long seq = Math.max(fromSeq, firstSeq);
+            for (Utterance utterance : log.toList((int) (seq - firstSeq))) {
+                result.add(new SequencedUtterance(seq++, utterance));
+            }
+            return log;
+        });
+        return result;
+    }
+
+    @Override
+    public long nextSeq(String sessionId) {
+        long[] next = new long[1];
+        sessions.computeIfPresent(sessionId, (id, log) -> {
+            next[0] = log.trimmedCount() + log.size();
+            return log;
+        });
+        return next[0];
+    }
+
+    @Override
+    public long size(String sessionId) {
+        CompactUtteranceLog log = sessions.get(sessionId);
+        return log == null ? 0 : log.size();
+    }
+
+    @Override
+    public boolean exists(String sessionId) {
+        return sessions.containsKey(sessionId);
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    @Override
+    public int evictIdle(long idleMillis) {
+        long threshold = System.currentTimeMillis() - idleMillis;
+        int before = sessions.size();
+        sessions.values().removeIf(log -> log.touchedAtMillis() < threshold);
+        return before - sessions.size();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+}
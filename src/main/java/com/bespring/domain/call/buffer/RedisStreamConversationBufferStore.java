@@ -0,0 +1,135 @@
+package com.bespring.domain.call.buffer;
+
+import com.bespring.domain.call.dto.Utterance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis Streams 대화 버퍼 저장소 (기본값)
+ * 세션마다 스트림 하나(conversation:utterances:{sessionId})를 사용하며 XADD MAXLEN ~ 으로 길이를 제한하고,
+ * 추가할 때마다 TTL을 갱신하여 유휴 세션은 Redis가 만료시킵니다. 노드가 바뀌어도 같은 버퍼를 봅니다.
+ * 발화 seq는 세션별 카운터(conversation:seq:{sessionId})로 추가 시점에 부여되어 스트림 ID(0-{seq+1})가 되므로,
+ * 앞쪽 발화가 길이 제한으로 제거되어도 seq가 밀리지 않고 XRANGE로 특정 seq 이후만 읽을 수 있습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.call.buffer.backend", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisStreamConversationBufferStore implements ConversationBufferStore {
+
+    // seq 기반 명시 ID 스트림 (자동 ID를 쓰던 이전 conversation:stream: 키와 섞이지 않도록 분리)
+    private static final String KEY_PREFIX = "conversation:utterances:";
+    private static final String SEQ_KEY_PREFIX = "conversation:seq:";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int ARGS_PER_UTTERANCE = 3;
+
+    // 카운터에서 seq를 이어 받아 발화마다 명시 ID로 XADD (빈 인자는 해당 필드 없음), 마지막 seq + 1 반환
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "local seq = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+            "for i = 3, #ARGV, 3 do " +
+            "local fields = {} " +
+            "if ARGV[i] ~= '' then fields[#fields + 1] = 's' fields[#fields + 1] = ARGV[i] end " +
+            "if ARGV[i + 1] ~= '' then fields[#fields + 1] = 't' fields[#fields + 1] = ARGV[i + 1] end " +
+            "if ARGV[i + 2] ~= '' then fields[#fields + 1] = 'ts' fields[#fields + 1] = ARGV[i + 2] end " +
+            "if #fields > 0 then " +
+            "seq = seq + 1 " +
+            "redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '0-' .. seq, unpack(fields)) " +
+            "end " +
+            "end " +
+            "redis.call('SET', KEYS[2], seq, 'EX', ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return seq", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${app.call.buffer.max-len:2000}")
+    private long maxLen;
+
+    @Value("${app.call.buffer.idle-ttl-seconds:1800}")
+    private long idleTtlSeconds;
+
+    @Override
+    public void append(String sessionId, List<Utterance> utterances) {
+        List<String> args = new ArrayList<>(2 + utterances.size() * ARGS_PER_UTTERANCE);
+        args.add(String.valueOf(maxLen));
+        args.add(String.valueOf(idleTtlSeconds));
+        for (Utterance utterance : utterances) {
+            args.add(utterance.getSpeaker() == null ? "" : utterance.getSpeaker());
+            args.add(utterance.getText() == null ? "" : utterance.getText());
+            args.add(utterance.getTimestamp() == null
+                    ? "" : Long.toString(ChronoUnit.MICROS.between(EPOCH, utterance.getTimestamp())));
+        }
+        // 발화 XADD, seq 카운터, TTL 갱신을 한 번의 왕복으로 원자적으로 처리
+        redisTemplate.execute(APPEND_SCRIPT, List.of(key(sessionId), seqKey(sessionId)), args.toArray());
+    }
+
+    @Override
+    public List<Utterance> read(String sessionId) {
+        List<Utterance> utterances = new ArrayList<>();
+        for (SequencedUtterance sequenced : readFrom(sessionId, 0)) {
+            utterances.add(sequenced.utterance());
+        }
+        return utterances;
+    }
+
+    @Override
+    public List<SequencedUtterance> readFrom(String sessionId, long fromSeq) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(key(sessionId),
+                Range.rightUnbounded(Range.Bound.inclusive("0-" + (fromSeq + 1))));
+        List<SequencedUtterance> utterances = new ArrayList<>();
+        if (records == null) {
+            return utterances;
+        }
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> fields = record.getValue();
+            Object micros = fields.get("ts");
+            utterances.add(new SequencedUtterance(record.getId().getSequence() - 1, new Utterance(
+                    (String) fields.get("s"),
+                    (String) fields.get("t"),
+                    micros == null ? null : EPOCH.plus(Long.parseLong((String) micros), ChronoUnit.MICROS))));
+        }
+        return utterances;
+    }
+
+    @Override
+    public long nextSeq(String sessionId) {
+        String next = redisTemplate.opsForValue().get(seqKey(sessionId));
+        return next == null ? 0 : Long.parseLong(next);
+    }
+
+    @Override
+    public long size(String sessionId) {
+        Long size = redisTemplate.opsForStream().size(key(sessionId));
+        return size == null ? 0 : size;
+    }
+
+    @Override
+    public boolean exists(String sessionId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(sessionId)));
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        redisTemplate.delete(List.of(key(sessionId), seqKey(sessionId)));
+    }
+
+    private String key(String sessionId) {
+        return KEY_PREFIX + sessionId;
+    }
+
+    private String seqKey(String sessionId) {
+        return SEQ_KEY_PREFIX + sessionId;
+    }
+}
@@ -0,0 +1,10 @@
+package com.bespring.domain.call.buffer;
+
+import com.bespring.domain.call.dto.Utterance;
+
+/**
+ * 대화 버퍼 저장소가 추가 시점에 부여한 seq(세션 내 0부터 연속)와 발화
+ * 길이 제한으로 앞쪽 발화가 제거되어도 seq는 바뀌지 않습니다.
+ */
+public record SequencedUtterance(long seq, Utterance utterance) {
+}
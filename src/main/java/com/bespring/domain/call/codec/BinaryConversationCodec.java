@@ -0,0 +1,213 @@
+package com.bespring.domain.call.codec;
+
+import com.bespring.domain.call.dto.Utterance;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 통화 대화 내용 바이너리 포맷 (call_logs.conversation_blob)
+ *
+ * [버전 1바이트] + Deflate(BEST_SPEED, raw) {
+ *   발화 수(varint), 화자 사전 크기(varint), 화자 문자열 목록,
+ *   발화마다: 플래그(1바이트), 화자 인덱스(varint), 이전 발화 대비 epoch millis 차이(zigzag varint),
+ *            밀리초 미만 나노초(varint), 텍스트 길이(varint) + UTF-8 바이트
+ * }
+ * timestamp는 UTC 기준 epoch millis로 변환하며 밀리초 미만 값도 보존하여 JSON과 동일하게 복원됩니다.
+ */
+public final class BinaryConversationCodec {
+
+    public static final byte VERSION_1 = 1;
+
+    private static final int FLAG_NO_SPEAKER = 1;
+    private static final int FLAG_NO_TEXT = 1 << 1;
+    private static final int FLAG_NO_TIMESTAMP = 1 << 2;
+
+    private BinaryConversationCodec() {
+    }
+
+    public static byte[] encode(List<Utterance> utterances) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + utterances.size() * 16);
+        bytes.write(VERSION_1);
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            Map<String, Integer> dictionary = new HashMap<>();
+            List<String> speakers = new ArrayList<>();
+            for (Utterance utterance : utterances) {
+                String speaker = utterance.getSpeaker();
+                if (speaker != null && dictionary.putIfAbsent(speaker, speakers.size()) == null) {
+                    speakers.add(speaker);
+                }
+            }
+
+            writeVarint(out, utterances.size());
+            writeVarint(out, speakers.size());
+            for (String speaker : speakers) {
+                writeString(out, speaker);
+            }
+
+            long previousMillis = 0;
+            for (Utterance utterance : utterances) {
+                LocalDateTime timestamp = utterance.getTimestamp();
+                int flags = (utterance.getSpeaker() == null ? FLAG_NO_SPEAKER : 0)
+                        | (utterance.getText() == null ? FLAG_NO_TEXT : 0)
+                        | (timestamp == null ? FLAG_NO_TIMESTAMP : 0);
+                out.writeByte(flags);
+
+                if (utterance.getSpeaker() != null) {
+                    writeVarint(out, dictionary.get(utterance.getSpeaker()));
+                }
+                if (timestamp != null) {
+                    long millis = timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+                    writeVarLong(out, zigzag(millis - previousMillis));
+                    writeVarint(out, timestamp.getNano() % 1_000_000);
+                    previousMillis = millis;
+                }
+                if (utterance.getText() != null) {
+                    writeString(out, utterance.getText());
+                }
+            }
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    public static List<Utterance> decode(byte[] blob) throws IOException {
+        if (blob == null || blob.length == 0) {
+            return new ArrayList<>();
+        }
+        Inflater inflater = new Inflater(true);
+        try (DataInputStream in = open(blob, inflater)) {
+            int count = readVarint(in);
+            List<String> speakers = readSpeakers(in);
+
+            List<Utterance> utterances = new ArrayList<>(count);
+            long previousMillis = 0;
+            for (int i = 0; i < count; i++) {
+                int flags = in.readUnsignedByte();
+                Utterance utterance = new Utterance();
+                if ((flags & FLAG_NO_SPEAKER) == 0) {
+                    utterance.setSpeaker(speakers.get(readVarint(in)));
+                }
+                if ((flags & FLAG_NO_TIMESTAMP) == 0) {
+                    long millis = previousMillis + unzigzag(readVarLong(in));
+                    int subMillisNanos = readVarint(in);
+                    utterance.setTimestamp(LocalDateTime.ofEpochSecond(
+                            Math.floorDiv(millis, 1000L),
+                            (int) Math.floorMod(millis, 1000L) * 1_000_000 + subMillisNanos,
+                            ZoneOffset.UTC));
+                    previousMillis = millis;
+                }
+                if ((flags & FLAG_NO_TEXT) == 0) {
+                    utterance.setText(readString(in));
+                }
+                utterances.add(utterance);
+            }
+            return utterances;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // 헤더만 풀어서 발화 수 반환
+    public static int count(byte[] blob) throws IOException {
+        if (blob == null || blob.length == 0) {
+            return 0;
+        }
+        Inflater inflater = new Inflater(true);
+        try (DataInputStream in = open(blob, inflater)) {
+            return readVarint(in);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    public static List<Utterance> lastN(byte[] blob, int n) throws IOException {
+        List<Utterance> utterances = decode(blob);
+        if (n <= 0) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(utterances.subList(Math.max(0, utterances.size() - n), utterances.size()));
+    }
+
+    private static DataInputStream open(byte[] blob, Inflater inflater) throws IOException {
+        if (blob[0] != VERSION_1) {
+            throw new IOException("Unsupported conversation format version: " + blob[0]);
+        }
+        return new DataInputStream(new InflaterInputStream(
+                new ByteArrayInputStream(blob, 1, blob.length - 1), inflater));
+    }
+
+    private static List<String> readSpeakers(DataInputStream in) throws IOException {
+        int size = readVarint(in);
+        List<String> speakers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            speakers.add(readString(in));
+        }
+        return speakers;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] utf8 = new byte[readVarint(in)];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in conversation data");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,148 @@
+package com.bespring.domain.call.codec;
+
+import com.bespring.domain.call.dto.Utterance;
+import com.bespring.global.exception.CustomException;
+import com.bespring.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 통화 대화 내용(JSON 배열) 인코딩/디코딩
+ * 미리 생성한 ObjectReader/ObjectWriter를 공유하여 호출마다 매퍼 생성이나 Utterance 타입 분석을 하지 않습니다.
+ * 개수/마지막 N개만 필요한 경우 전체 리스트를 만들지 않고 스트리밍으로 읽습니다.
+ */
+public final class ConversationCodec {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static final ObjectReader UTTERANCE_READER = MAPPER.readerFor(Utterance.class);
+    private static final ObjectReader LIST_READER = MAPPER.readerFor(new TypeReference<List<Utterance>>() {});
+    private static final ObjectWriter LIST_WRITER = MAPPER.writerFor(new TypeReference<List<Utterance>>() {});
+
+    private ConversationCodec() {
+    }
+
+    public static String encode(List<Utterance> utterances) throws IOException {
+        return LIST_WRITER.writeValueAsString(utterances);
+    }
+
+    public static List<Utterance> decode(String json) throws IOException {
+        if (isEmpty(json)) {
+            return new ArrayList<>();
+        }
+        return LIST_READER.readValue(json);
+    }
+
+    // 발화를 하나씩 바인딩하는 지연 iterator (사용 후 close 필요)
+    public static MappingIterator<Utterance> iterate(String json) throws IOException {
+        if (isEmpty(json)) {
+            return MappingIterator.emptyIterator();
+        }
+        return UTTERANCE_READER.readValues(json);
+    }
+
+    // 객체 바인딩 없이 토큰만 건너뛰며 발화 수 계산
+    public static int count(String json) throws IOException {
+        if (isEmpty(json)) {
+            return 0;
+        }
+        try (JsonParser parser = MAPPER.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return 0;
+            }
+            int count = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                count++;
+            }
+            return count;
+        }
+    }
+
+    public static List<Utterance> lastN(String json, int n) throws IOException {
+        if (n <= 0) {
+            return new ArrayList<>();
+        }
+        Deque<Utterance> window = new ArrayDeque<>(n);
+        try (MappingIterator<Utterance> iterator = iterate(json)) {
+            while (iterator.hasNextValue()) {
+                if (window.size() == n) {
+                    window.removeFirst();
+                }
+                window.addLast(iterator.nextValue());
+            }
+        }
+        return new ArrayList<>(window);
+    }
+
+    /**
+     * 요청 본문의 발화 배열을 스트리밍으로 읽으며 개수/텍스트 길이 제한을 적용
+     * 현재 토큰은 START_ARRAY여야 합니다.
+     */
+    public static List<Utterance> readLimited(JsonParser parser, DeserializationContext ctxt,
+                                              int maxUtterances, int maxTextLength) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            return ctxt.reportInputMismatch(List.class, "conversation must be an array");
+        }
+
+        List<Utterance> utterances = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (utterances.size() >= maxUtterances) {
+                throw new CustomException(ErrorCode.TRANSCRIPT_TOO_LARGE,
+                        String.format("최대 발화 수: %d", maxUtterances));
+            }
+            utterances.add(readUtterance(parser, ctxt, maxTextLength));
+        }
+        return utterances;
+    }
+
+    private static Utterance readUtterance(JsonParser parser, DeserializationContext ctxt,
+                                           int maxTextLength) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return ctxt.reportInputMismatch(Utterance.class, "utterance must be an object");
+        }
+
+        Utterance utterance = new Utterance();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "speaker" -> utterance.setSpeaker(value == JsonToken.VALUE_NULL ? null : parser.getText());
+                case "text" -> {
+                    if (value != JsonToken.VALUE_NULL && parser.getTextLength() > maxTextLength) {
+                        throw new CustomException(ErrorCode.TRANSCRIPT_TOO_LARGE,
+                                String.format("발화 최대 길이: %d자", maxTextLength));
+                    }
+                    utterance.setText(value == JsonToken.VALUE_NULL ? null : parser.getText());
+                }
+                case "timestamp" -> utterance.setTimestamp(
+                        value == JsonToken.VALUE_NULL ? null : ctxt.readValue(parser, LocalDateTime.class));
+                default -> parser.skipChildren();
+            }
+        }
+        return utterance;
+    }
+
+    private static boolean isEmpty(String json) {
+        return json == null || json.isBlank();
+    }
+}
@@ -3,8 +3,10 @@ package com.bespring.domain.call.controller;
 import com.bespring.domain.call.dto.request.CallEndRequest;
 import com.bespring.domain.call.dto.request.CallStartRequest;
 import com.bespring.domain.call.dto.request.TranscriptRequest;
+import com.bespring.domain.call.dto.request.UtteranceAppendRequest;
 import com.bespring.domain.call.dto.response.CallDetailResponse;
 import com.bespring.domain.call.dto.response.CallStartResponse;
+import com.bespring.domain.call.dto.response.UtteranceAppendResponse;
 import com.bespring.domain.call.service.CallService;
 import com.bespring.global.dto.ApiResponse;
 import com.bespring.global.security.UserPrincipal;
@@ -77,6 +79,29 @@ public class CallController {
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 
+    @Operation(
+            summary = "발화 추가",
+            description = "진행 중인 통화에 새 발화만 추가합니다. 같은 시퀀스 번호로 다시 보내면 무시됩니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "202",
+                    description = "발화 추가 접수"
+            )
+    })
+    @PostMapping("/{callId}/utterances")
+    public ResponseEntity<ApiResponse<UtteranceAppendResponse>> appendUtterances(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "통화 ID") @PathVariable Long callId,
+            @Valid @RequestBody UtteranceAppendRequest request) {
+
+        Long userId = userPrincipal.getUserId();
+
+        UtteranceAppendResponse response = callService.appendUtterances(userId, callId, request);
+
+        return ResponseEntity.status(202).body(ApiResponse.success(response));
+    }
+
     @Operation(
             summary = "통화 종료",
             description = "음성 통화를 종료하고 최종 결과를 저장합니다."
@@ -114,12 +139,13 @@ public class CallController {
     @GetMapping("/{callId}")
     public ResponseEntity<ApiResponse<CallDetailResponse>> getCall(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @Parameter(description = "통화 ID") @PathVariable Long callId) {
+            @Parameter(description = "통화 ID") @PathVariable Long callId,
+            @Parameter(description = "마지막 N개 발화만 조회 (생략 시 전체)") @RequestParam(required = false) Integer last) {
 
         Long userId = userPrincipal.getUserId();
         log.info("Getting call details: {}, user: {}", callId, userId);
 
-        CallDetailResponse response = callService.getCallDetail(userId, callId);
+        CallDetailResponse response = callService.getCallDetail(userId, callId, last);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
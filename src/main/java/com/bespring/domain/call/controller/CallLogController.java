@@ -4,6 +4,8 @@ import com.bespring.domain.call.dto.request.CallLogCreateRequest;
 import com.bespring.domain.call.entity.CallLog;
 import com.bespring.domain.call.service.CallLogService;
 import com.bespring.global.dto.ApiResponse;
+import com.bespring.global.pagination.CursorSlice;
+import com.bespring.global.pagination.KeysetCursor;
 import com.bespring.global.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -65,7 +67,10 @@ public class CallLogController {
 
     @Operation(
             summary = "통화 기록 조회",
-            description = "사용자의 통화 기록을 조회합니다."
+            description = "사용자의 통화 기록을 조회합니다. cursor 파라미터를 보내면(첫 페이지는 빈 값) " +
+                    "(생성 시각, ID) 기준 커서 방식으로 조회하며 totalCount는 includeTotal=true일 때만 포함합니다. " +
+                    "cursor가 없으면 기존 offset 방식으로 동작합니다. " +
+                    "목록에는 대화 내용이 포함되지 않으며, 대화 내용은 통화 상세 조회(GET /api/calls/{callId})로 확인합니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -83,18 +88,45 @@ public class CallLogController {
             @Parameter(description = "오프셋 (0부터 시작)")
             @RequestParam(defaultValue = "0") int offset,
             @Parameter(description = "페이지 크기 (1-100)")
-            @RequestParam(defaultValue = "20") int limit) {
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 첫 페이지는 빈 값)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 방식에서 전체 건수 포함 여부")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
 
         Long userId = userPrincipal.getUserId();
+        Map<String, Object> response = new HashMap<>();
+
+        if (cursor != null) {
+            CursorSlice<CallLog> slice = callLogService.getCallLogsByCursor(userId, startDate, endDate, cursor, limit);
+
+            response.put("callLogs", slice.getContent());
+            response.put("hasMore", slice.isHasMore());
+            response.put("nextCursor", slice.getNextCursor());
+            if (includeTotal) {
+                response.put("totalCount", callLogService.countCallLogs(userId, startDate, endDate));
+            }
+            return ResponseEntity.ok(ApiResponse.success(response));
+        }
+
+        // 기존 offset 방식 (호환용) - 다음 페이지부터 커서 방식으로 이어갈 수 있도록 nextCursor도 함께 반환
         Pageable pageable = PageRequest.of(offset / limit, limit);
 
         Page<CallLog> callLogPage = callLogService.getCallLogs(userId, startDate, endDate, pageable);
 
-        Map<String, Object> response = new HashMap<>();
         response.put("callLogs", callLogPage.getContent());
         response.put("totalCount", callLogPage.getTotalElements());
         response.put("hasMore", callLogPage.hasNext());
+        response.put("nextCursor", nextCursorOf(callLogPage));
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
-}
\ No newline at end of file
+
+    private String nextCursorOf(Page<CallLog> page) {
+        if (!page.hasNext() || page.getContent().isEmpty()) {
+            return null;
+        }
+        CallLog last = page.getContent().get(page.getContent().size() - 1);
+        return KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+    }
+}
@@ -0,0 +1,18 @@
+package com.bespring.domain.call.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자의 진행 중 통화 정보 (ActiveCallRegistry)
+ */
+@Getter
+@AllArgsConstructor
+public class ActiveCall {
+
+    private final Long callId;
+    private final LocalDateTime startedAt;
+    private final int snoozeCount;
+}
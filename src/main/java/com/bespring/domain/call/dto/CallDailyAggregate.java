@@ -0,0 +1,24 @@
+package com.bespring.domain.call.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 통화 기록 집계 결과 (GROUP BY 통화 시작 날짜)
+ * SUM 결과는 해당 조건의 행이 없으면 null일 수 있습니다.
+ */
+public interface CallDailyAggregate {
+
+    LocalDate getStatDate();
+
+    Long getTotalCount();
+
+    Long getSuccessCount();
+
+    Long getFailNoTalkCount();
+
+    Long getFailSnoozeCount();
+
+    Long getSnoozeSum();
+
+    Long getWakeMinuteSum();
+}
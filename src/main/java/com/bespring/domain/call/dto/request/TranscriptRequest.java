@@ -1,6 +1,7 @@
 package com.bespring.domain.call.dto.request;
 
 import com.bespring.domain.call.dto.Utterance;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
@@ -14,6 +15,7 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Schema(description = "대화 내용 저장 요청")
+@JsonDeserialize(using = TranscriptRequestDeserializer.class)
 public class TranscriptRequest {
 
     @Schema(description = "대화 내용 리스트", required = true)
@@ -0,0 +1,46 @@
+package com.bespring.domain.call.dto.request;
+
+import com.bespring.domain.call.codec.ConversationCodec;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.io.IOException;
+
+/**
+ * TranscriptRequest 스트리밍 역직렬화 (발화 수/텍스트 길이 제한)
+ * 스프링 ObjectMapper에서는 설정값이 주입되고, 그 외에는 기본값을 사용합니다.
+ */
+public class TranscriptRequestDeserializer extends StdDeserializer<TranscriptRequest> {
+
+    @Value("${app.call.transcript.max-utterances:2000}")
+    private int maxUtterances = 2000;
+
+    @Value("${app.call.transcript.max-text-length:4000}")
+    private int maxTextLength = 4000;
+
+    public TranscriptRequestDeserializer() {
+        super(TranscriptRequest.class);
+    }
+
+    @Override
+    public TranscriptRequest deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return (TranscriptRequest) ctxt.handleUnexpectedToken(TranscriptRequest.class, parser);
+        }
+
+        TranscriptRequest request = new TranscriptRequest();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("conversation".equals(field) && value != JsonToken.VALUE_NULL) {
+                request.setConversation(ConversationCodec.readLimited(parser, ctxt, maxUtterances, maxTextLength));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return request;
+    }
+}
@@ -0,0 +1,32 @@
+package com.bespring.domain.call.dto.request;
+
+import com.bespring.domain.call.dto.Utterance;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "발화 추가 요청 (새 발화만 전송)")
+public class UtteranceAppendRequest {
+
+    @Schema(description = "첫 발화의 시퀀스 번호 (0부터 시작, 이후 발화는 1씩 증가)", example = "12", required = true)
+    @NotNull(message = "시작 시퀀스는 필수입니다")
+    @Min(value = 0, message = "시작 시퀀스는 0 이상이어야 합니다")
+    private Integer startSeq;
+
+    @Schema(description = "추가할 발화 리스트", required = true)
+    @NotEmpty(message = "발화 리스트는 필수입니다")
+    @Size(max = 500, message = "한 번에 최대 500개까지 추가할 수 있습니다")
+    @Valid
+    private List<Utterance> utterances;
+}
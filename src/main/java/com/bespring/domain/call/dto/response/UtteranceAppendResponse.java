@@ -0,0 +1,19 @@
+package com.bespring.domain.call.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "발화 추가 응답")
+public class UtteranceAppendResponse {
+
+    @Schema(description = "통화 ID", example = "123")
+    private Long callId;
+
+    @Schema(description = "다음 요청에 사용할 시작 시퀀스", example = "15")
+    private Integer nextSeq;
+}
@@ -1,21 +1,27 @@
 package com.bespring.domain.call.entity;
 
+import com.bespring.domain.call.codec.BinaryConversationCodec;
+import com.bespring.domain.call.codec.ConversationCodec;
 import com.bespring.domain.call.dto.Utterance;
 import com.bespring.domain.user.entity.User;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.annotations.CreationTimestamp;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "call_logs")
+@Table(name = "call_logs", indexes = {
+        @Index(name = "idx_call_logs_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_call_logs_user_start", columnList = "user_id, call_start, result"),
+        @Index(name = "idx_call_logs_user_result_start", columnList = "user_id, result, call_start"),
+        @Index(name = "idx_call_logs_result_start", columnList = "result, call_start")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,8 +29,10 @@ import java.util.List;
 @Slf4j
 public class CallLog {
 
+    // pooled ID (50개 단위 할당) - IDENTITY와 달리 INSERT JDBC 배치가 가능
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "call_logs_seq")
+    @SequenceGenerator(name = "call_logs_seq", sequenceName = "call_logs_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -37,22 +45,31 @@ public class CallLog {
     @Column(name = "call_end")
     private LocalDateTime callEnd;
 
+    // MySQL ENUM 대신 VARCHAR로 고정 (결과 값 추가 시 컬럼 변경 불필요)
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(nullable = false, columnDefinition = "VARCHAR(20)")
     private CallResult result;
 
     @Column(name = "snooze_count", nullable = false)
     @Builder.Default
     private Integer snoozeCount = 0;
 
+    // 레거시 JSON 포맷 (바이너리 마이그레이션 전 데이터만 사용)
+    @JsonIgnore
     @Column(name = "conversation_data", columnDefinition = "JSON")
     private String conversationData;
 
+    // 바이너리 포맷 대화 내용 (첫 바이트가 포맷 버전, BinaryConversationCodec 참고)
+    @JsonIgnore
+    @Column(name = "conversation_blob", length = 16_777_215)
+    private byte[] conversationBlob;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     public enum CallResult {
+        IN_PROGRESS,
         SUCCESS,
         FAIL_NO_TALK,
         FAIL_SNOOZE
@@ -84,41 +101,44 @@ public class CallLog {
                 .build();
     }
 
+    // 바이너리 포맷 우선, 없으면 레거시 JSON에서 읽음 (call_utterances 이전 통화만 해당)
+    // 목록 응답에는 포함하지 않음 - 대화 내용은 통화 상세 조회(CallService.getCallDetail)에서 제공
+    @JsonIgnore
     public List<Utterance> getConversationList() {
-        if (conversationData == null || conversationData.trim().isEmpty()) {
+        try {
+            if (conversationBlob != null) {
+                return BinaryConversationCodec.decode(conversationBlob);
+            }
+            return ConversationCodec.decode(conversationData);
+        } catch (IOException e) {
+            log.error("Failed to parse conversation data for CallLog id: {}", id, e);
             return new ArrayList<>();
         }
+    }
 
+    // 마지막 n개 발화만 스트리밍으로 읽음
+    public List<Utterance> getLastUtterances(int n) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(conversationData, new TypeReference<List<Utterance>>() {});
-        } catch (JsonProcessingException e) {
+            if (conversationBlob != null) {
+                return BinaryConversationCodec.lastN(conversationBlob, n);
+            }
+            return ConversationCodec.lastN(conversationData, n);
+        } catch (IOException e) {
             log.error("Failed to parse conversation data for CallLog id: {}", id, e);
             return new ArrayList<>();
         }
     }
 
-    public static CallLog createWithConversationList(User user, LocalDateTime callStart,
-                                                   LocalDateTime callEnd, CallResult result,
-                                                   int snoozeCount, List<Utterance> utterances) {
-        String conversationJson = convertUtterancesToJson(utterances);
-        return CallLog.builder()
-                .user(user)
-                .callStart(callStart)
-                .callEnd(callEnd)
-                .result(result)
-                .snoozeCount(snoozeCount)
-                .conversationData(conversationJson)
-                .build();
-    }
-
-    private static String convertUtterancesToJson(List<Utterance> utterances) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.writeValueAsString(utterances);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to convert utterances to JSON", e);
-            return "[]";
+    /**
+     * 레거시 JSON 대화 내용을 바이너리 포맷으로 변환
+     * @return 변환이 수행되었으면 true
+     */
+    public boolean migrateConversationToBinary() throws IOException {
+        if (conversationBlob != null || conversationData == null) {
+            return false;
         }
+        this.conversationBlob = BinaryConversationCodec.encode(ConversationCodec.decode(conversationData));
+        this.conversationData = null;
+        return true;
     }
 }
\ No newline at end of file
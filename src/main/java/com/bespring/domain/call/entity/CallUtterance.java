@@ -0,0 +1,36 @@
+package com.bespring.domain.call.entity;
+
+import com.bespring.domain.call.dto.Utterance;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통화 발화 (append-only)
+ * (call_log_id, seq) 기본키로 같은 발화의 재전송은 무시되고, 조회는 기본키 범위 스캔 한 번으로 정렬됩니다.
+ */
+@Entity
+@Table(name = "call_utterances")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CallUtterance {
+
+    @EmbeddedId
+    private CallUtteranceId id;
+
+    @Column(length = 20)
+    private String speaker;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "spoken_at")
+    private LocalDateTime spokenAt;
+
+    public Utterance toUtterance() {
+        return new Utterance(speaker, content, spokenAt);
+    }
+}
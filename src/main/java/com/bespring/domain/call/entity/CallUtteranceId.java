@@ -0,0 +1,24 @@
+package com.bespring.domain.call.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CallUtteranceId implements Serializable {
+
+    @Column(name = "call_log_id", nullable = false)
+    private Long callLogId;
+
+    @Column(name = "seq", nullable = false)
+    private Integer seq;
+}
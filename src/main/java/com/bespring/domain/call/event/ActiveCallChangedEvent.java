@@ -0,0 +1,14 @@
+package com.bespring.domain.call.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 진행 중 통화 상태(시작/종료) 변경 이벤트 (스누즈 상태 캐시 무효화용)
+ */
+@Getter
+@AllArgsConstructor
+public class ActiveCallChangedEvent {
+
+    private final Long userId;
+}
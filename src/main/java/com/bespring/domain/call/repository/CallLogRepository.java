@@ -1,10 +1,12 @@
 package com.bespring.domain.call.repository;
 
+import com.bespring.domain.call.dto.CallDailyAggregate;
 import com.bespring.domain.call.entity.CallLog;
 import com.bespring.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,20 +24,43 @@ public interface CallLogRepository extends JpaRepository<CallLog, Long> {
             User user, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable
     );
 
-    @Query("SELECT c FROM CallLog c JOIN FETCH c.user WHERE c.user = :user ORDER BY c.createdAt DESC")
+    @Query("SELECT c FROM CallLog c JOIN FETCH c.user WHERE c.user = :user ORDER BY c.createdAt DESC, c.id DESC")
     Page<CallLog> findByUserWithUserOrderByCreatedAtDesc(@Param("user") User user, Pageable pageable);
 
-    @Query("SELECT c FROM CallLog c JOIN FETCH c.user WHERE c.user = :user AND c.callStart BETWEEN :startDate AND :endDate ORDER BY c.createdAt DESC")
+    @Query("SELECT c FROM CallLog c JOIN FETCH c.user WHERE c.user = :user AND c.callStart BETWEEN :startDate AND :endDate ORDER BY c.createdAt DESC, c.id DESC")
     Page<CallLog> findByUserAndCallStartBetweenWithUserOrderByCreatedAtDesc(
             @Param("user") User user, @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate, Pageable pageable
     );
 
+    // keyset 페이지 조회 - (createdAt, id)가 커서보다 앞선 행을 limit + 1건 (idx_call_logs_user_created)
+    @Query("SELECT c FROM CallLog c JOIN FETCH c.user WHERE c.user.id = :userId " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CallLog> findByUserIdBeforeCursor(
+            @Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Pageable pageable
+    );
+
+    @Query("SELECT c FROM CallLog c JOIN FETCH c.user WHERE c.user.id = :userId " +
+           "AND c.callStart BETWEEN :startDate AND :endDate " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CallLog> findByUserIdAndCallStartBetweenBeforeCursor(
+            @Param("userId") Long userId, @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Pageable pageable
+    );
+
     List<CallLog> findByUserAndCallStartBetween(User user, LocalDateTime startDate, LocalDateTime endDate);
 
     @Query("SELECT COUNT(c) FROM CallLog c WHERE c.user = :user")
     Long countByUser(@Param("user") User user);
 
+    long countByUser_Id(Long userId);
+
+    long countByUser_IdAndCallStartBetween(Long userId, LocalDateTime startDate, LocalDateTime endDate);
+
     @Query("SELECT COUNT(c) FROM CallLog c WHERE c.user = :user AND c.result = 'SUCCESS'")
     Long countSuccessByUser(@Param("user") User user);
 
@@ -48,18 +73,42 @@ public interface CallLogRepository extends JpaRepository<CallLog, Long> {
     @Query("SELECT AVG(HOUR(c.callStart)) FROM CallLog c WHERE c.user = :user AND c.result = 'SUCCESS'")
     Double findAverageWakeTimeByUser(@Param("user") User user);
 
+    // 일별 통화 결과 집계 (GROUP BY 통화 시작 날짜) - 일일 통계 롤업 백필용, 진행 중 통화 제외 (IN_PROGRESS 도입 전 행은 callEnd로 판단)
+    @Query("SELECT CAST(c.callStart AS LocalDate) AS statDate, COUNT(c) AS totalCount, " +
+           "SUM(CASE WHEN c.result = 'SUCCESS' THEN 1 ELSE 0 END) AS successCount, " +
+           "SUM(CASE WHEN c.result = 'FAIL_NO_TALK' THEN 1 ELSE 0 END) AS failNoTalkCount, " +
+           "SUM(CASE WHEN c.result = 'FAIL_SNOOZE' THEN 1 ELSE 0 END) AS failSnoozeCount, " +
+           "SUM(c.snoozeCount) AS snoozeSum, " +
+           "SUM(CASE WHEN c.result = 'SUCCESS' THEN HOUR(c.callStart) * 60 + MINUTE(c.callStart) ELSE 0 END) AS wakeMinuteSum " +
+           "FROM CallLog c WHERE c.user.id = :userId AND c.result <> 'IN_PROGRESS' " +
+           "AND (c.callEnd IS NOT NULL OR c.result <> 'SUCCESS') " +
+           "GROUP BY CAST(c.callStart AS LocalDate)")
+    List<CallDailyAggregate> aggregateDailyByUserId(@Param("userId") Long userId);
+
     @Query("SELECT c FROM CallLog c JOIN FETCH c.user WHERE c.user = :user ORDER BY c.callStart DESC")
     List<CallLog> findRecentByUserWithUser(@Param("user") User user, Pageable pageable);
 
     @Query("SELECT c FROM CallLog c WHERE c.user = :user ORDER BY c.callStart DESC")
     List<CallLog> findRecentByUser(@Param("user") User user, Pageable pageable);
 
-    // 현재 진행 중인 통화 조회 (callEnd가 null인 통화)
-    @Query("SELECT c FROM CallLog c WHERE c.user.id = :userId AND c.callEnd IS NULL")
-    Optional<CallLog> findByUserIdAndCallEndIsNull(@Param("userId") Long userId);
+    // 진행 중 통화 조회 - ActiveCallRegistry의 DB 대체 경로 (idx_call_logs_user_result_start)
+    Optional<CallLog> findFirstByUserIdAndResultOrderByIdDesc(Long userId, CallLog.CallResult result);
+
+    // 오래된 진행 중 통화 조회 - stale 통화 정리용 (idx_call_logs_result_start)
+    @Query("SELECT c FROM CallLog c WHERE c.result = 'IN_PROGRESS' AND c.callStart < :threshold ORDER BY c.callStart ASC")
+    List<CallLog> findStaleInProgress(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    // 아직 종료되지 않은 통화만 종료 처리 (통화 종료 API와 stale 정리가 동시에 실행되어도 한쪽만 성공)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CallLog c SET c.callEnd = :callEnd, c.result = :result, c.snoozeCount = :snoozeCount " +
+           "WHERE c.id = :id AND c.callEnd IS NULL")
+    int closeCall(@Param("id") Long id, @Param("callEnd") LocalDateTime callEnd,
+                  @Param("result") CallLog.CallResult result, @Param("snoozeCount") int snoozeCount);
 
-    // 사용자의 진행 중인 통화 존재 여부 확인
-    boolean existsByUserIdAndCallEndIsNull(Long userId);
+    // 바이너리 마이그레이션 대상 조회 (id 기준 keyset)
+    @Query("SELECT c FROM CallLog c WHERE c.id > :afterId AND c.conversationBlob IS NULL " +
+           "AND c.conversationData IS NOT NULL ORDER BY c.id ASC")
+    List<CallLog> findLegacyConversationsAfter(@Param("afterId") Long afterId, Pageable pageable);
 
     // 특정 통화 조회 (사용자 검증 포함)
     Optional<CallLog> findByIdAndUserId(Long callId, Long userId);
@@ -0,0 +1,22 @@
+package com.bespring.domain.call.repository;
+
+import com.bespring.domain.call.entity.CallUtterance;
+import com.bespring.domain.call.entity.CallUtteranceId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CallUtteranceRepository extends JpaRepository<CallUtterance, CallUtteranceId> {
+
+    // 기본키 (call_log_id, seq) 범위 스캔
+    @Query("SELECT u FROM CallUtterance u WHERE u.id.callLogId = :callLogId ORDER BY u.id.seq ASC")
+    List<CallUtterance> findByCallLogId(@Param("callLogId") Long callLogId);
+
+    @Query("SELECT u FROM CallUtterance u WHERE u.id.callLogId = :callLogId ORDER BY u.id.seq DESC")
+    List<CallUtterance> findLatestByCallLogId(@Param("callLogId") Long callLogId, Pageable pageable);
+}
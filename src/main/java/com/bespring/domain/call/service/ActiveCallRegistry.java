@@ -0,0 +1,114 @@
+package com.bespring.domain.call.service;
+
+import com.bespring.domain.call.dto.ActiveCall;
+import com.bespring.domain.call.entity.CallLog;
+import com.bespring.domain.call.repository.CallLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 진행 중 통화 레지스트리 (Redis 해시 call:active:{userId} = callId, startedAt, snooze)
+ * 시작 시 없을 때만 등록하고 종료 시 같은 callId일 때만 삭제하여 동시 시작/종료 경합을 막습니다.
+ * 키는 stale 타임아웃보다 조금 길게 만료되므로 종료되지 않은 통화가 사용자를 영구히 막지 않으며,
+ * Redis를 사용할 수 없으면 (user_id, result) 인덱스로 DB에서 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveCallRegistry {
+
+    private static final String KEY_PREFIX = "call:active:";
+
+    private static final RedisScript<Long> REGISTER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'callId', ARGV[1], 'startedAt', ARGV[2], 'snooze', '0') " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1", Long.class);
+
+    private static final RedisScript<Long> UNREGISTER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'callId') == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private static final RedisScript<Long> SNOOZE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('HSET', KEYS[1], 'snooze', ARGV[1]) return 1 end " +
+            "return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CallLogRepository callLogRepository;
+
+    @Value("${app.call.active.stale-timeout-minutes:30}")
+    private long staleTimeoutMinutes;
+
+    public Optional<ActiveCall> find(Long userId) {
+        try {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(key(userId));
+            if (fields == null || fields.isEmpty()) {
+                return Optional.empty();
+            }
+            Object snooze = fields.get("snooze");
+            return Optional.of(new ActiveCall(
+                    Long.valueOf((String) fields.get("callId")),
+                    LocalDateTime.parse((String) fields.get("startedAt")),
+                    snooze == null ? 0 : Integer.parseInt((String) snooze)));
+        } catch (Exception e) {
+            log.warn("Redis is not available, looking up active call for user {} in DB: {}", userId, e.getMessage());
+            return findInDatabase(userId);
+        }
+    }
+
+    /**
+     * 진행 중 통화가 없을 때만 등록
+     * @return 등록 성공 여부 (Redis 장애 시에는 DB 확인 결과를 신뢰하여 true)
+     */
+    public boolean register(Long userId, Long callId, LocalDateTime startedAt) {
+        try {
+            Long result = redisTemplate.execute(REGISTER_SCRIPT, List.of(key(userId)),
+                    String.valueOf(callId), startedAt.toString(), String.valueOf(ttlMillis()));
+            return result != null && result == 1L;
+        } catch (Exception e) {
+            log.warn("Redis is not available, skipping active call registration for user {}: {}", userId, e.getMessage());
+            return true;
+        }
+    }
+
+    public void unregister(Long userId, Long callId) {
+        try {
+            redisTemplate.execute(UNREGISTER_SCRIPT, List.of(key(userId)), String.valueOf(callId));
+        } catch (Exception e) {
+            log.warn("Redis is not available, active call entry for user {} will expire by TTL: {}", userId, e.getMessage());
+        }
+    }
+
+    // 진행 중 통화의 현재 스누즈 횟수 갱신 (진행 중 통화가 없으면 무시)
+    public void updateSnoozeCount(Long userId, int snoozeCount) {
+        try {
+            redisTemplate.execute(SNOOZE_SCRIPT, List.of(key(userId)), String.valueOf(snoozeCount));
+        } catch (Exception e) {
+            log.warn("Redis is not available, skipping live snooze update for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private Optional<ActiveCall> findInDatabase(Long userId) {
+        return callLogRepository.findFirstByUserIdAndResultOrderByIdDesc(userId, CallLog.CallResult.IN_PROGRESS)
+                .map(callLog -> new ActiveCall(callLog.getId(), callLog.getCallStart(), callLog.getSnoozeCount()));
+    }
+
+    private long ttlMillis() {
+        // stale 통화 정리 주기보다 여유를 두고 만료
+        return (staleTimeoutMinutes + 5) * 60_000L;
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
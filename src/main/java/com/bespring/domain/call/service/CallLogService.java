@@ -2,6 +2,7 @@ package com.bespring.domain.call.service;
 
 import com.bespring.domain.call.dto.request.CallLogCreateRequest;
 import com.bespring.domain.call.entity.CallLog;
+import com.bespring.global.pagination.CursorSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,8 +15,16 @@ public interface CallLogService {
 
     Page<CallLog> getCallLogs(Long userId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
 
+    // (createdAt, id) keyset 페이지 조회 - COUNT 쿼리 없음
+    CursorSlice<CallLog> getCallLogsByCursor(Long userId, LocalDateTime startDate, LocalDateTime endDate, String cursor, int limit);
+
+    long countCallLogs(Long userId, LocalDateTime startDate, LocalDateTime endDate);
+
     Optional<CallLog> findById(Long id);
 
+    // 소유자 검증 포함 조회
+    Optional<CallLog> findByIdAndUserId(Long id, Long userId);
+
     Long getTotalCallCount(Long userId);
 
     Long getSuccessCallCount(Long userId);
@@ -1,19 +1,25 @@
 package com.bespring.domain.call.service;
 
+import com.bespring.domain.call.dto.ActiveCall;
 import com.bespring.domain.call.dto.request.CallLogCreateRequest;
 import com.bespring.domain.call.entity.CallLog;
 import com.bespring.domain.call.repository.CallLogRepository;
+import com.bespring.domain.statistics.service.UserDailyStatsService;
 import com.bespring.domain.user.entity.User;
 import com.bespring.domain.user.repository.UserRepository;
 import com.bespring.global.exception.UserNotFoundException;
+import com.bespring.global.pagination.CursorSlice;
+import com.bespring.global.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -22,8 +28,12 @@ import java.util.Optional;
 @Transactional
 public class CallLogServiceImpl implements CallLogService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CallLogRepository callLogRepository;
     private final UserRepository userRepository;
+    private final UserDailyStatsService userDailyStatsService;
+    private final ActiveCallRegistry activeCallRegistry;
 
     @Override
     public CallLog createCallLog(Long userId, CallLogCreateRequest request) {
@@ -42,6 +52,9 @@ public class CallLogServiceImpl implements CallLogService {
 
         CallLog saved = callLogRepository.save(callLog);
 
+        // 일일 통계 롤업 증분 갱신 (같은 트랜잭션)
+        userDailyStatsService.recordCall(userId, request.getCallStart(), request.getResult(), request.getSnoozeCount());
+
         log.info("Call log created: userId={}, result={}, snoozeCount={}",
                 userId, request.getResult(), request.getSnoozeCount());
 
@@ -57,6 +70,12 @@ public class CallLogServiceImpl implements CallLogService {
             }
         }
 
+        // 진행 중 통화는 통화 시작 API로만 생성
+        if (request.getResult() == CallLog.CallResult.IN_PROGRESS) {
+            throw new com.bespring.global.exception.InvalidRequestException(
+                    "진행 중 통화는 통화 시작 API로 생성해야 합니다.");
+        }
+
         // FAIL_SNOOZE인 경우 스누즈 횟수 검증
         if (request.getResult() == CallLog.CallResult.FAIL_SNOOZE && request.getSnoozeCount() == 0) {
             throw new com.bespring.global.exception.InvalidRequestException(
@@ -83,12 +102,45 @@ public class CallLogServiceImpl implements CallLogService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<CallLog> getCallLogsByCursor(Long userId, LocalDateTime startDate, LocalDateTime endDate,
+                                                    String cursor, int limit) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 여부는 한 건 더 조회해서 판단
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+
+        List<CallLog> rows = (startDate != null && endDate != null)
+                ? callLogRepository.findByUserIdAndCallStartBetweenBeforeCursor(
+                        userId, startDate, endDate, position.getCreatedAt(), position.getId(), fetch)
+                : callLogRepository.findByUserIdBeforeCursor(
+                        userId, position.getCreatedAt(), position.getId(), fetch);
+
+        return CursorSlice.of(rows, pageSize, c -> KeysetCursor.of(c.getCreatedAt(), c.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countCallLogs(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate != null && endDate != null) {
+            return callLogRepository.countByUser_IdAndCallStartBetween(userId, startDate, endDate);
+        }
+        return callLogRepository.countByUser_Id(userId);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<CallLog> findById(Long id) {
         return callLogRepository.findById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CallLog> findByIdAndUserId(Long id, Long userId) {
+        return callLogRepository.findByIdAndUserId(id, userId);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Long getTotalCallCount(Long userId) {
@@ -141,15 +193,10 @@ public class CallLogServiceImpl implements CallLogService {
     @Transactional(readOnly = true)
     public int getCurrentCallSnoozeCount(Long userId) {
         try {
-            // 현재 진행 중인 통화 (callEnd가 null인 통화) 조회
-            Optional<CallLog> currentCall = callLogRepository.findByUserIdAndCallEndIsNull(userId);
-
-            if (currentCall.isPresent()) {
-                return currentCall.get().getSnoozeCount();
-            }
-
-            // 진행 중인 통화가 없으면 0 반환
-            return 0;
+            // 진행 중 통화 레지스트리 조회 (Redis 장애 시 DB 인덱스 조회), 없으면 0
+            return activeCallRegistry.find(userId)
+                    .map(ActiveCall::getSnoozeCount)
+                    .orElse(0);
         } catch (Exception e) {
             log.warn("Failed to get current call snooze count for user {}: {}", userId, e.getMessage());
             return 0;
@@ -2,23 +2,34 @@ package com.bespring.domain.call.service;
 
 import com.bespring.domain.call.dto.request.CallEndRequest;
 import com.bespring.domain.call.dto.request.CallStartRequest;
+import com.bespring.domain.call.dto.Utterance;
 import com.bespring.domain.call.dto.request.TranscriptRequest;
+import com.bespring.domain.call.dto.request.UtteranceAppendRequest;
 import com.bespring.domain.call.dto.response.CallDetailResponse;
 import com.bespring.domain.call.dto.response.CallStartResponse;
+import com.bespring.domain.call.dto.response.UtteranceAppendResponse;
 import com.bespring.domain.call.entity.CallLog;
+import com.bespring.domain.call.entity.CallUtterance;
+import com.bespring.domain.call.event.ActiveCallChangedEvent;
 import com.bespring.domain.call.repository.CallLogRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.bespring.domain.call.repository.CallUtteranceRepository;
+import com.bespring.domain.statistics.service.UserDailyStatsService;
 import com.bespring.domain.user.entity.User;
 import com.bespring.domain.user.repository.UserRepository;
 import com.bespring.global.exception.CustomException;
 import com.bespring.global.exception.ErrorCode;
+import com.bespring.global.transaction.AfterTransaction;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -27,27 +38,45 @@ import java.time.LocalDateTime;
 public class CallService {
 
     private final CallLogRepository callLogRepository;
+    private final CallUtteranceRepository callUtteranceRepository;
+    private final UtteranceWriteBehindBatcher utteranceBatcher;
+    private final TranscriptStreamService transcriptStreamService;
+    private final ActiveCallRegistry activeCallRegistry;
+    private final StaleCallReaper staleCallReaper;
     private final UserRepository userRepository;
+    private final UserDailyStatsService userDailyStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CallStartResponse startCall(Long userId, CallStartRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        // 진행 중인 통화가 있는지 확인
-        if (callLogRepository.existsByUserIdAndCallEndIsNull(userId)) {
+        // 진행 중인 통화가 있는지 확인 (Redis 레지스트리 O(1) 조회)
+        if (activeCallRegistry.find(userId).isPresent()) {
             throw new CustomException(ErrorCode.CALL_ALREADY_IN_PROGRESS);
         }
 
-        // 새 통화 로그 생성 (아직 대화 내용은 없음)
+        // 새 통화 로그 생성 (아직 대화 내용은 없음, 종료 시 실제 결과로 업데이트)
         CallLog callLog = CallLog.builder()
                 .user(user)
                 .callStart(LocalDateTime.now())
-                .result(CallLog.CallResult.SUCCESS) // 임시, 종료 시 실제 결과로 업데이트
+                .result(CallLog.CallResult.IN_PROGRESS)
                 .snoozeCount(0)
                 .build();
 
         CallLog savedCallLog = callLogRepository.save(callLog);
 
+        // 동시에 시작된 다른 통화가 먼저 등록되었으면 롤백
+        // 등록은 동시 시작 방지를 위해 커밋 전에 선점하고, 커밋되지 않으면 해제 (pooled ID라 INSERT는 커밋 시점 flush)
+        Long callId = savedCallLog.getId();
+        LocalDateTime callStart = savedCallLog.getCallStart();
+        if (!activeCallRegistry.register(userId, callId, callStart)) {
+            throw new CustomException(ErrorCode.CALL_ALREADY_IN_PROGRESS);
+        }
+        AfterTransaction.rollback(() -> activeCallRegistry.unregister(userId, callId));
+        AfterTransaction.commit(() -> staleCallReaper.track(callId, callStart));
+        eventPublisher.publishEvent(new ActiveCallChangedEvent(userId));
+
         log.info("Started call for user {}: callId={}, sessionId={}",
                 userId, savedCallLog.getId(), request.getSessionId());
 
@@ -67,29 +96,26 @@ public class CallService {
             throw new CustomException(ErrorCode.CALL_ALREADY_ENDED);
         }
 
-        // 대화 내용을 JSON으로 변환하여 저장 (기존 엔티티 업데이트)
-        String conversationJson;
-        try {
-            conversationJson = new ObjectMapper().writeValueAsString(request.getConversation());
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to serialize transcript for call {}: {}", callId, e.getMessage());
-            conversationJson = "[]";
+        // 전체 대화를 seq 0부터의 추가로 처리: 이미 저장된 발화는 건너뛰고 새 발화만 기록 (CallLog 행은 다시 쓰지 않음)
+        utteranceBatcher.enqueue(callId, 0, request.getConversation());
+
+        log.info("Saved transcript for call {}: {} utterances", callId, request.getConversation().size());
+    }
+
+    public UtteranceAppendResponse appendUtterances(Long userId, Long callId, UtteranceAppendRequest request) {
+        CallLog callLog = callLogRepository.findByIdAndUserId(callId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
+
+        if (callLog.getCallEnd() != null) {
+            throw new CustomException(ErrorCode.CALL_ALREADY_ENDED);
         }
 
-        CallLog updatedCallLog = CallLog.builder()
-                .id(callLog.getId())
-                .user(callLog.getUser())
-                .callStart(callLog.getCallStart())
-                .callEnd(callLog.getCallEnd())
-                .result(callLog.getResult())
-                .snoozeCount(callLog.getSnoozeCount())
-                .conversationData(conversationJson)
-                .createdAt(callLog.getCreatedAt())
-                .build();
+        utteranceBatcher.enqueue(callId, request.getStartSeq(), request.getUtterances());
 
-        callLogRepository.save(updatedCallLog);
+        int nextSeq = request.getStartSeq() + request.getUtterances().size();
+        log.debug("Appended utterances for call {}: seq {}..{}", callId, request.getStartSeq(), nextSeq - 1);
 
-        log.info("Saved transcript for call {}: {} utterances", callId, request.getConversation().size());
+        return new UtteranceAppendResponse(callId, nextSeq);
     }
 
     public void endCall(Long userId, Long callId, CallEndRequest request) {
@@ -106,23 +132,30 @@ public class CallService {
         // clamp to [0,3]
         int enforcedSnoozeCount = Math.max(0, Math.min(3, requestedSnooze));
         CallLog.CallResult effectiveResult = request.getResult();
+        if (effectiveResult == CallLog.CallResult.IN_PROGRESS) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "통화 종료 결과로 IN_PROGRESS를 사용할 수 없습니다.");
+        }
         if (enforcedSnoozeCount >= 3) {
             effectiveResult = CallLog.CallResult.FAIL_SNOOZE;
         }
 
-        // 통화 종료 정보 업데이트
-        CallLog updatedCallLog = CallLog.builder()
-                .id(callLog.getId())
-                .user(callLog.getUser())
-                .callStart(callLog.getCallStart())
-                .callEnd(request.getCallEnd())
-                .result(effectiveResult)
-                .snoozeCount(enforcedSnoozeCount)
-                .conversationData(callLog.getConversationData())
-                .createdAt(callLog.getCreatedAt())
-                .build();
+        // WebSocket으로 수신 중인 발화와 대기 중인 발화를 먼저 기록
+        transcriptStreamService.complete(callId);
+        utteranceBatcher.flush(callId);
 
-        callLogRepository.save(updatedCallLog);
+        // 통화 종료 정보 업데이트 (아직 종료되지 않은 경우에만, stale 정리와 동시에 실행되어도 한쪽만 반영)
+        if (callLogRepository.closeCall(callId, request.getCallEnd(), effectiveResult, enforcedSnoozeCount) == 0) {
+            throw new CustomException(ErrorCode.CALL_ALREADY_ENDED);
+        }
+
+        // 일일 통계 롤업 증분 갱신 (같은 트랜잭션)
+        userDailyStatsService.recordCall(userId, callLog.getCallStart(), effectiveResult, enforcedSnoozeCount);
+        // 종료가 커밋된 후에만 레지스트리 해제 (롤백되면 통화는 계속 진행 중)
+        AfterTransaction.commit(() -> {
+            activeCallRegistry.unregister(userId, callId);
+            staleCallReaper.untrack(callId);
+        });
+        eventPublisher.publishEvent(new ActiveCallChangedEvent(userId));
 
         log.info("Ended call {}: result={}, duration={}min (snooze: req={}, enforced={})",
                 callId, effectiveResult,
@@ -131,8 +164,12 @@ public class CallService {
         // 포인트 자동 지급은 비활성화 (요청에 따라 제거)
     }
 
-    @Transactional(readOnly = true)
     public CallDetailResponse getCallDetail(Long userId, Long callId) {
+        return getCallDetail(userId, callId, null);
+    }
+
+    // last가 주어지면 전체 리스트를 만들지 않고 마지막 N개 발화만 읽음
+    public CallDetailResponse getCallDetail(Long userId, Long callId, Integer last) {
         CallLog callLog = callLogRepository.findByIdAndUserId(callId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
 
@@ -142,8 +179,29 @@ public class CallService {
                 callLog.getCallEnd(),
                 callLog.getResult(),
                 callLog.getSnoozeCount(),
-                callLog.getConversationList(),
+                loadConversation(callLog, last),
                 callLog.getCreatedAt()
         );
     }
+
+    // call_utterances 범위 스캔 한 번으로 조립, 발화 행이 없으면 기존 CallLog 대화 내용(바이너리/JSON)으로 대체
+    private List<Utterance> loadConversation(CallLog callLog, Integer last) {
+        if (last != null && last <= 0) {
+            return new ArrayList<>();
+        }
+        utteranceBatcher.flush(callLog.getId());
+
+        List<CallUtterance> rows;
+        if (last != null) {
+            rows = new ArrayList<>(callUtteranceRepository.findLatestByCallLogId(callLog.getId(), PageRequest.of(0, last)));
+            Collections.reverse(rows);
+        } else {
+            rows = callUtteranceRepository.findByCallLogId(callLog.getId());
+        }
+
+        if (rows.isEmpty()) {
+            return last != null ? callLog.getLastUtterances(last) : callLog.getConversationList();
+        }
+        return rows.stream().map(CallUtterance::toUtterance).toList();
+    }
 }
@@ -0,0 +1,58 @@
+package com.bespring.domain.call.service;
+
+import com.bespring.domain.call.event.ActiveCallChangedEvent;
+import com.bespring.global.cache.TwoTierCache;
+import com.bespring.global.cache.TwoTierCacheManager;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 진행 중 통화의 스누즈 횟수 캐시 (L1 Caffeine + L2 Redis)
+ * 통화 시작/종료 트랜잭션 커밋 후 무효화됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CallSnoozeStateCache {
+
+    private final CallLogService callLogService;
+    private final ActiveCallRegistry activeCallRegistry;
+    private final TwoTierCacheManager cacheManager;
+
+    @Value("${app.cache.call-snooze.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${app.cache.call-snooze.local-ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @Value("${app.cache.call-snooze.remote-ttl-seconds:300}")
+    private long remoteTtlSeconds;
+
+    private TwoTierCache<Integer> cache;
+
+    @PostConstruct
+    void init() {
+        cache = cacheManager.create("call-snooze", Integer.class, localMaxSize,
+                Duration.ofSeconds(localTtlSeconds), Duration.ofSeconds(remoteTtlSeconds));
+    }
+
+    public int getCurrentSnoozeCount(Long userId) {
+        return cache.get(String.valueOf(userId), () -> callLogService.getCurrentCallSnoozeCount(userId));
+    }
+
+    // 스누즈 재호출 시 진행 중 통화의 실시간 스누즈 횟수 갱신
+    public void recordSnooze(Long userId, int snoozeCount) {
+        activeCallRegistry.updateSnoozeCount(userId, snoozeCount);
+        cache.evict(String.valueOf(userId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActiveCallChanged(ActiveCallChangedEvent event) {
+        cache.evict(String.valueOf(event.getUserId()));
+    }
+}
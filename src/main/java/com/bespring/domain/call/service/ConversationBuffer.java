@@ -1,45 +1,141 @@
 package com.bespring.domain.call.service;
 
+import com.bespring.domain.call.buffer.CompactUtteranceLog;
+import com.bespring.domain.call.buffer.ConversationBufferStore;
+import com.bespring.domain.call.buffer.ConversationBufferUnavailableException;
+import com.bespring.domain.call.buffer.SequencedUtterance;
 import com.bespring.domain.call.dto.Utterance;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.bespring.global.exception.CustomException;
+import com.bespring.global.exception.ErrorCode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 세션별 대화 버퍼
+ * 추가된 발화는 로컬 write-behind 버퍼(CompactUtteranceLog)에 모였다가 개수/메모리 임계치 또는 주기마다
+ * ConversationBufferStore(기본 Redis Streams)로 한 번에 기록됩니다. 기록이 끝난 세션은 로컬에서 제거되므로
+ * 로컬 메모리에는 아직 기록되지 않은 발화만 남습니다.
+ * 기록이 실패하면 retry-backoff 동안 추가 경로에서 즉시 기록을 다시 시도하지 않고(주기 기록만 재시도),
+ * 그 사이 대기 발화가 max-pending-bytes를 넘으면 새 발화를 거부하여 로컬 메모리를 제한합니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ConversationBuffer {
 
+    private static final int FLUSH_LOCK_STRIPES = 64;
+
     private final ObjectMapper objectMapper;
-    private final Map<String, List<Utterance>> sessionBuffers = new ConcurrentHashMap<>();
+    private final ConversationBufferStore store;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.call.buffer.flush-threshold:16}")
+    private int flushThreshold = 16;
+
+    @Value("${app.call.buffer.max-pending-bytes:8388608}")
+    private long maxPendingBytes = 8 * 1024 * 1024;
+
+    @Value("${app.call.buffer.idle-ttl-seconds:1800}")
+    private long idleTtlSeconds = 1800;
+
+    @Value("${app.call.buffer.retry-backoff-ms:1000}")
+    private long retryBackoffMs = 1000;
+
+    // 아직 저장소에 기록되지 않은 세션별 발화 (추가/배출은 compute로 원자적으로 처리)
+    private final Map<String, CompactUtteranceLog> pending = new ConcurrentHashMap<>();
+    private final AtomicLong pendingBytes = new AtomicLong();
+    // 마지막 기록 실패 이후 추가 경로에서 다시 기록을 시도할 시각 (0이면 정상)
+    private final AtomicLong flushRetryAt = new AtomicLong();
+    // 같은 세션의 배출~기록 순서를 보장하기 위한 lock striping
+    private final ReentrantLock[] flushLocks = createLocks();
+
+    private Counter flushedCounter;
+    private Counter flushFailureCounter;
+    private Counter evictedCounter;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        flushedCounter = meterRegistry.counter("conversation.buffer.flushed");
+        flushFailureCounter = meterRegistry.counter("conversation.buffer.flush.failures");
+        evictedCounter = meterRegistry.counter("conversation.buffer.evicted");
+        rejectedCounter = meterRegistry.counter("conversation.buffer.rejected");
+        Gauge.builder("conversation.buffer.sessions", pending, Map::size)
+                .description("저장소에 기록 대기 중인 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("conversation.buffer.bytes", pendingBytes, AtomicLong::get)
+                .description("저장소에 기록 대기 중인 발화 추정 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
 
     public void addUserUtterance(String sessionId, String text) {
-        List<Utterance> utterances = sessionBuffers.computeIfAbsent(sessionId, k -> new ArrayList<>());
-        utterances.add(Utterance.createUser(text));
+        append(sessionId, Utterance.createUser(text));
         log.debug("Added user utterance to session {}: {}", sessionId, text);
     }
 
     public void addAssistantUtterance(String sessionId, String text) {
-        List<Utterance> utterances = sessionBuffers.computeIfAbsent(sessionId, k -> new ArrayList<>());
-        utterances.add(Utterance.createAssistant(text));
+        append(sessionId, Utterance.createAssistant(text));
         log.debug("Added assistant utterance to session {}: {}", sessionId, text);
     }
 
     public void addSystemMessage(String sessionId, String message) {
-        List<Utterance> utterances = sessionBuffers.computeIfAbsent(sessionId, k -> new ArrayList<>());
-        utterances.add(Utterance.createSystem(message));
+        append(sessionId, Utterance.createSystem(message));
         log.debug("Added system message to session {}: {}", sessionId, message);
     }
 
+    /**
+     * 발화 추가
+     * @throws CustomException CONVERSATION_BUFFER_FULL - 저장소 장애로 대기 발화가 메모리 상한을 넘었을 때
+     */
+    public void append(String sessionId, Utterance utterance) {
+        long estimated = CompactUtteranceLog.estimateBytes(utterance);
+        boolean backingOff = isBackingOff();
+        if (backingOff && pendingBytes.get() + estimated > maxPendingBytes) {
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.CONVERSATION_BUFFER_FULL);
+        }
+
+        int[] size = new int[1];
+        pending.compute(sessionId, (id, buffer) -> {
+            CompactUtteranceLog target = buffer != null ? buffer : new CompactUtteranceLog();
+            target.add(utterance);
+            size[0] = target.size();
+            return target;
+        });
+        long bytes = pendingBytes.addAndGet(estimated);
+
+        if (backingOff) {
+            // 저장소 장애 중에는 주기 기록에서만 재시도
+            return;
+        }
+        if (bytes > maxPendingBytes) {
+            // 메모리 상한 초과: 호출 스레드에서 전체 기록
+            flushAll();
+        } else if (size[0] >= flushThreshold) {
+            flush(sessionId);
+        }
+    }
+
     public String getConversationJson(String sessionId) {
-        List<Utterance> utterances = sessionBuffers.getOrDefault(sessionId, new ArrayList<>());
+        List<Utterance> utterances = getConversationList(sessionId);
         try {
             return objectMapper.writeValueAsString(utterances);
         } catch (JsonProcessingException e) {
@@ -48,20 +144,195 @@ public class ConversationBuffer {
         }
     }
 
+    /**
+     * 세션의 전체 대화 (대기 발화를 먼저 기록한 뒤 저장소에서 순서대로 읽음)
+     * @throws ConversationBufferUnavailableException 저장소에 기록/조회할 수 없을 때 (로컬 발화는 유지됨)
+     */
     public List<Utterance> getConversationList(String sessionId) {
-        return new ArrayList<>(sessionBuffers.getOrDefault(sessionId, new ArrayList<>()));
+        if (!flush(sessionId)) {
+            throw new ConversationBufferUnavailableException(sessionId, null);
+        }
+        try {
+            return store.read(sessionId);
+        } catch (Exception e) {
+            log.warn("Redis is not available, reading conversation buffer for session {} failed: {}",
+                    sessionId, e.getMessage());
+            throw new ConversationBufferUnavailableException(sessionId, e);
+        }
+    }
+
+    /**
+     * fromSeq 이후 발화를 저장소가 부여한 seq와 함께 조회 (대기 발화를 먼저 기록)
+     * @throws ConversationBufferUnavailableException 저장소에 기록/조회할 수 없을 때 (로컬 발화는 유지됨)
+     */
+    public List<SequencedUtterance> getConversationFrom(String sessionId, long fromSeq) {
+        if (!flush(sessionId)) {
+            throw new ConversationBufferUnavailableException(sessionId, null);
+        }
+        try {
+            return store.readFrom(sessionId, fromSeq);
+        } catch (Exception e) {
+            log.warn("Redis is not available, reading conversation buffer for session {} failed: {}",
+                    sessionId, e.getMessage());
+            throw new ConversationBufferUnavailableException(sessionId, e);
+        }
+    }
+
+    // 세션에 지금까지 추가된 발화 수 (저장소에서 제거된 발화와 아직 기록되지 않은 로컬 발화 포함)
+    public long getTotalAppended(String sessionId) {
+        long local = snapshot(sessionId).size();
+        try {
+            return store.nextSeq(sessionId) + local;
+        } catch (Exception e) {
+            log.warn("Redis is not available, counting local utterances only for session {}", sessionId);
+            return local;
+        }
     }
 
     public void clearSession(String sessionId) {
-        sessionBuffers.remove(sessionId);
+        ReentrantLock lock = lockFor(sessionId);
+        lock.lock();
+        try {
+            CompactUtteranceLog removed = pending.remove(sessionId);
+            if (removed != null) {
+                pendingBytes.addAndGet(-removed.bytes());
+            }
+            store.delete(sessionId);
+        } catch (Exception e) {
+            log.warn("Redis is not available, conversation buffer for session {} will expire by TTL: {}",
+                    sessionId, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
         log.debug("Cleared conversation buffer for session: {}", sessionId);
     }
 
     public int getUtteranceCount(String sessionId) {
-        return sessionBuffers.getOrDefault(sessionId, new ArrayList<>()).size();
+        int local = snapshot(sessionId).size();
+        try {
+            return (int) store.size(sessionId) + local;
+        } catch (Exception e) {
+            log.warn("Redis is not available, counting local utterances only for session {}", sessionId);
+            return local;
+        }
     }
 
     public boolean hasSession(String sessionId) {
-        return sessionBuffers.containsKey(sessionId);
+        if (pending.containsKey(sessionId)) {
+            return true;
+        }
+        try {
+            return store.exists(sessionId);
+        } catch (Exception e) {
+            log.warn("Redis is not available, checking local conversation buffer only for session {}", sessionId);
+            return false;
+        }
+    }
+
+    /**
+     * 세션의 대기 발화를 저장소에 기록
+     * @return 기록 성공(또는 대기 발화 없음) 여부
+     */
+    public boolean flush(String sessionId) {
+        ReentrantLock lock = lockFor(sessionId);
+        lock.lock();
+        try {
+            CompactUtteranceLog drained = pending.remove(sessionId);
+            if (drained == null) {
+                return true;
+            }
+            pendingBytes.addAndGet(-drained.bytes());
+
+            List<Utterance> utterances = drained.toList();
+            try {
+                store.append(sessionId, utterances);
+                flushedCounter.increment(utterances.size());
+                flushRetryAt.set(0);
+                return true;
+            } catch (Exception e) {
+                flushFailureCounter.increment();
+                flushRetryAt.set(System.currentTimeMillis() + retryBackoffMs);
+                log.warn("Redis is not available, keeping {} utterances buffered locally for session {}: {}",
+                        utterances.size(), sessionId, e.getMessage());
+                requeue(sessionId, drained);
+                return false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.call.buffer.flush-interval-ms:500}")
+    public void flushAll() {
+        for (String sessionId : pending.keySet()) {
+            // 저장소 장애 시 나머지 세션은 다음 주기에 재시도
+            if (!flush(sessionId)) {
+                return;
+            }
+        }
+    }
+
+    // 저장소 자체 TTL이 없는 백엔드의 유휴 세션 정리 및 로컬에 오래 남은 세션 제거
+    @Scheduled(fixedDelayString = "${app.call.buffer.eviction-interval-ms:60000}")
+    public void evictIdleSessions() {
+        long idleMillis = idleTtlSeconds * 1000;
+        long threshold = System.currentTimeMillis() - idleMillis;
+        for (Map.Entry<String, CompactUtteranceLog> entry : pending.entrySet()) {
+            if (entry.getValue().touchedAtMillis() < threshold) {
+                CompactUtteranceLog removed = pending.remove(entry.getKey());
+                if (removed != null) {
+                    pendingBytes.addAndGet(-removed.bytes());
+                    evictedCounter.increment();
+                }
+            }
+        }
+        int evicted = store.evictIdle(idleMillis);
+        if (evicted > 0) {
+            evictedCounter.increment(evicted);
+            log.debug("Evicted {} idle conversation buffers", evicted);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushAll();
+    }
+
+    // 실패한 발화를 이후 추가된 발화보다 앞에 다시 넣음
+    private void requeue(String sessionId, CompactUtteranceLog failed) {
+        long failedBytes = failed.bytes();
+        pending.compute(sessionId, (id, buffer) -> {
+            if (buffer != null) {
+                failed.addAll(buffer.toList());
+            }
+            return failed;
+        });
+        pendingBytes.addAndGet(failedBytes);
+    }
+
+    private boolean isBackingOff() {
+        long retryAt = flushRetryAt.get();
+        return retryAt != 0 && System.currentTimeMillis() < retryAt;
+    }
+
+    private List<Utterance> snapshot(String sessionId) {
+        List<Utterance> result = new ArrayList<>();
+        pending.computeIfPresent(sessionId, (id, buffer) -> {
+            result.addAll(buffer.toList());
+            return buffer;
+        });
+        return result;
+    }
+
+    private ReentrantLock lockFor(String sessionId) {
+        return flushLocks[(sessionId.hashCode() & 0x7fffffff) % FLUSH_LOCK_STRIPES];
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] locks = new ReentrantLock[FLUSH_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.bespring.domain.call.service;
+
+import com.bespring.domain.call.entity.CallLog;
+import com.bespring.domain.call.repository.CallLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 레거시 JSON 대화 내용을 바이너리 포맷으로 변환 (배치 단위 트랜잭션)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConversationMigrationService {
+
+    private final CallLogRepository callLogRepository;
+
+    /**
+     * afterId 이후의 레거시 행을 최대 batchSize개 변환
+     * @return 처리한 마지막 id (대상이 없으면 null)
+     */
+    @Transactional
+    public Long migrateBatch(Long afterId, int batchSize) {
+        List<CallLog> callLogs = callLogRepository.findLegacyConversationsAfter(afterId, PageRequest.of(0, batchSize));
+        if (callLogs.isEmpty()) {
+            return null;
+        }
+
+        for (CallLog callLog : callLogs) {
+            try {
+                callLog.migrateConversationToBinary();
+            } catch (Exception e) {
+                // 파싱 불가 행은 JSON 그대로 유지 (dual-read로 계속 조회 가능)
+                log.warn("Failed to migrate conversation data for CallLog {}: {}", callLog.getId(), e.getMessage());
+            }
+        }
+        return callLogs.get(callLogs.size() - 1).getId();
+    }
+}
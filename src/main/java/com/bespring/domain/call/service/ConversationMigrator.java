@@ -0,0 +1,56 @@
+package com.bespring.domain.call.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * conversation_data(JSON) → conversation_blob(바이너리) 백그라운드 마이그레이션
+ * 주기마다 배치 몇 개씩 처리하며, 모두 변환되면 더 이상 조회하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.call.conversation.migration.enabled", havingValue = "true")
+public class ConversationMigrator {
+
+    private final ConversationMigrationService migrationService;
+
+    @Value("${app.call.conversation.migration.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.call.conversation.migration.batches-per-run:5}")
+    private int batchesPerRun;
+
+    private long lastId = 0L;
+    private volatile boolean completed = false;
+
+    @Scheduled(fixedDelayString = "${app.call.conversation.migration.interval-ms:10000}",
+            initialDelayString = "${app.call.conversation.migration.interval-ms:10000}")
+    public void migrate() {
+        if (completed) {
+            return;
+        }
+
+        for (int i = 0; i < batchesPerRun; i++) {
+            Long processedId;
+            try {
+                processedId = migrationService.migrateBatch(lastId, batchSize);
+            } catch (Exception e) {
+                log.warn("Conversation migration batch failed after id {}: {}", lastId, e.getMessage());
+                return;
+            }
+
+            if (processedId == null) {
+                completed = true;
+                log.info("Conversation binary migration completed (last id: {})", lastId);
+                return;
+            }
+            lastId = processedId;
+        }
+        log.debug("Conversation binary migration progress: last id {}", lastId);
+    }
+}
@@ -0,0 +1,137 @@
+package com.bespring.domain.call.service;
+
+import com.bespring.domain.call.entity.CallLog;
+import com.bespring.domain.call.repository.CallLogRepository;
+import com.bespring.global.scheduling.TimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 종료되지 않은 통화 정리
+ * 통화 시작 시 타이밍 휠에 제한 시간 타이머를 등록하고 종료 시 취소합니다.
+ * 재기동 등으로 타이머가 사라진 통화는 (result, call_start) 인덱스를 사용하는 주기 스윕으로 정리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StaleCallReaper {
+
+    private final StaleCallService staleCallService;
+    private final CallLogRepository callLogRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.call.active.stale-timeout-minutes:30}")
+    private long staleTimeoutMinutes;
+
+    @Value("${app.call.active.reaper.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${app.call.active.reaper.wheel-size:512}")
+    private int wheelSize;
+
+    @Value("${app.call.active.reaper.sweep-batch-size:100}")
+    private int sweepBatchSize;
+
+    private final Map<Long, TimingWheel.Timeout> timers = new ConcurrentHashMap<>();
+    private TimingWheel wheel;
+    private ExecutorService reapExecutor;
+
+    @PostConstruct
+    void init() {
+        reapExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "call-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        wheel = new TimingWheel("call-reaper", tickMillis, wheelSize, reapExecutor);
+        Gauge.builder("call.active.timers", wheel, TimingWheel::getPendingCount)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        wheel.close();
+        reapExecutor.shutdownNow();
+    }
+
+    public void track(Long callId, LocalDateTime callStart) {
+        long delayMillis = Duration.between(LocalDateTime.now(), callStart.plus(staleTimeout())).toMillis();
+        TimingWheel.Timeout timeout = wheel.schedule(() -> reap(callId), delayMillis);
+        TimingWheel.Timeout previous = timers.put(callId, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    public void untrack(Long callId) {
+        TimingWheel.Timeout timeout = timers.remove(callId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.call.active.reaper.sweep-interval-ms:600000}",
+            initialDelayString = "${app.call.active.reaper.sweep-initial-delay-ms:60000}")
+    public void sweep() {
+        List<CallLog> stale;
+        int closed = 0;
+        int batchClosed;
+        do {
+            batchClosed = 0;
+            stale = callLogRepository.findStaleInProgress(threshold(), PageRequest.of(0, sweepBatchSize));
+            for (CallLog callLog : stale) {
+                if (close(callLog.getId())) {
+                    batchClosed++;
+                }
+            }
+            closed += batchClosed;
+        } while (stale.size() == sweepBatchSize && batchClosed > 0);
+
+        if (closed > 0) {
+            log.info("Stale call sweep closed {} calls", closed);
+        }
+    }
+
+    private void reap(Long callId) {
+        timers.remove(callId);
+        close(callId);
+    }
+
+    private boolean close(Long callId) {
+        try {
+            boolean closed = staleCallService.closeIfStale(callId, threshold());
+            if (closed) {
+                meterRegistry.counter("call.active.reaped").increment();
+            }
+            return closed;
+        } catch (Exception e) {
+            log.warn("Failed to close stale call {}: {}", callId, e.getMessage());
+            return false;
+        }
+    }
+
+    private LocalDateTime threshold() {
+        // 타이머는 tick 단위로 약간 일찍 실행될 수 있어 1 tick 여유를 둠
+        return LocalDateTime.now().minus(staleTimeout()).plusNanos(tickMillis * 1_000_000L);
+    }
+
+    private Duration staleTimeout() {
+        return Duration.ofMinutes(staleTimeoutMinutes);
+    }
+}
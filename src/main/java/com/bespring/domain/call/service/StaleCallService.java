@@ -0,0 +1,65 @@
+package com.bespring.domain.call.service;
+
+import com.bespring.domain.call.dto.ActiveCall;
+import com.bespring.domain.call.entity.CallLog;
+import com.bespring.domain.call.event.ActiveCallChangedEvent;
+import com.bespring.domain.call.repository.CallLogRepository;
+import com.bespring.domain.statistics.service.UserDailyStatsService;
+import com.bespring.global.transaction.AfterTransaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제한 시간 안에 종료되지 않은 통화를 FAIL_NO_TALK로 종료
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class StaleCallService {
+
+    private final CallLogRepository callLogRepository;
+    private final ActiveCallRegistry activeCallRegistry;
+    private final UserDailyStatsService userDailyStatsService;
+    private final TranscriptStreamService transcriptStreamService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @return 이 호출에서 종료 처리했으면 true (이미 종료되었거나 아직 제한 시간 전이면 false)
+     */
+    public boolean closeIfStale(Long callId, LocalDateTime threshold) {
+        CallLog callLog = callLogRepository.findById(callId).orElse(null);
+        if (callLog == null || callLog.getCallEnd() != null
+                || callLog.getResult() != CallLog.CallResult.IN_PROGRESS
+                || !callLog.getCallStart().isBefore(threshold)) {
+            return false;
+        }
+
+        Long userId = callLog.getUser().getId();
+        int snoozeCount = activeCallRegistry.find(userId)
+                .filter(active -> callId.equals(active.getCallId()))
+                .map(ActiveCall::getSnoozeCount)
+                .orElse(callLog.getSnoozeCount());
+
+        // 통화 종료 API와 동시에 실행되어도 한쪽만 반영
+        if (callLogRepository.closeCall(callId, LocalDateTime.now(), CallLog.CallResult.FAIL_NO_TALK, snoozeCount) == 0) {
+            return false;
+        }
+
+        userDailyStatsService.recordCall(userId, callLog.getCallStart(), CallLog.CallResult.FAIL_NO_TALK, snoozeCount);
+        // 종료가 커밋된 후 레지스트리 해제 및 수신 중인 발화 스트림 종료 (남은 발화 기록, 이후 프레임 거부)
+        AfterTransaction.commit(() -> {
+            activeCallRegistry.unregister(userId, callId);
+            transcriptStreamService.complete(callId);
+        });
+        eventPublisher.publishEvent(new ActiveCallChangedEvent(userId));
+
+        log.info("Closed stale call {} for user {} (started at {})", callId, userId, callLog.getCallStart());
+        return true;
+    }
+}
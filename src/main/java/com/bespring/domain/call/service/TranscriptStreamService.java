@@ -0,0 +1,210 @@
+package com.bespring.domain.call.service;
+
+import com.bespring.domain.call.buffer.ConversationBufferUnavailableException;
+import com.bespring.domain.call.buffer.SequencedUtterance;
+import com.bespring.domain.call.dto.Utterance;
+import com.bespring.domain.call.entity.CallLog;
+import com.bespring.domain.call.repository.CallLogRepository;
+import com.bespring.global.exception.CustomException;
+import com.bespring.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * WebSocket으로 실시간 수신한 발화를 ConversationBuffer에 쌓고 call_utterances로 배치 기록
+ * 발화 seq는 버퍼 저장소가 추가 시점에 부여하고(세션 키 call:{callId}), 기록은 다음 시점에 마지막으로 넘긴 seq 이후만 읽어 수행됩니다.
+ * - 아직 기록하지 않은 발화가 flush-threshold개 이상일 때
+ * - 마지막 수신 후 idle-flush-ms 동안 새 발화가 없을 때
+ * - 연결 종료 및 통화 종료(endCall) 시
+ * 같은 seq의 재기록은 무시되므로 다른 노드에서 endCall이 호출되어도 버퍼 전체를 다시 넘기면 됩니다.
+ * 최대 발화 수는 저장소의 세션 누적 발화 수에서 이어 세므로 다른 노드로 재연결해도 초기화되지 않습니다.
+ * flush는 Redis 조회/JDBC 기록을 포함하므로 synchronized 대신 스트림별 ReentrantLock으로 직렬화합니다
+ * (virtual thread 사용 시 carrier 스레드 고정 방지).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TranscriptStreamService {
+
+    private static final String SESSION_PREFIX = "call:";
+
+    private final CallLogRepository callLogRepository;
+    private final ConversationBuffer conversationBuffer;
+    private final UtteranceWriteBehindBatcher utteranceBatcher;
+
+    @Value("${app.call.stream.flush-threshold:50}")
+    private int flushThreshold;
+
+    @Value("${app.call.stream.idle-flush-ms:3000}")
+    private long idleFlushMs;
+
+    @Value("${app.call.transcript.max-utterances:2000}")
+    private int maxUtterances;
+
+    // 이 노드에서 수신 중인 통화별 스트림 상태
+    private final Map<Long, TranscriptStream> streams = new ConcurrentHashMap<>();
+
+    /**
+     * 통화 소유자/진행 여부 확인 후 스트림 열기 (WebSocket 핸드셰이크 시 호출)
+     */
+    public TranscriptStream open(Long userId, Long callId) {
+        CallLog callLog = callLogRepository.findByIdAndUserId(callId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CALL_NOT_FOUND));
+        if (callLog.getCallEnd() != null) {
+            throw new CustomException(ErrorCode.CALL_ALREADY_ENDED);
+        }
+        return streams.computeIfAbsent(callId,
+                id -> new TranscriptStream(id, conversationBuffer.getTotalAppended(sessionId(id))));
+    }
+
+    /**
+     * 발화 추가
+     * @return 스트림이 이미 종료되었으면 false
+     */
+    public boolean append(TranscriptStream stream, Utterance utterance) {
+        if (stream.isClosed()) {
+            return false;
+        }
+        if (stream.getReceivedCount() >= maxUtterances) {
+            throw new CustomException(ErrorCode.TRANSCRIPT_TOO_LARGE,
+                    String.format("최대 발화 수: %d", maxUtterances));
+        }
+
+        conversationBuffer.append(sessionId(stream.getCallId()), utterance);
+        int unflushed = stream.received();
+        if (unflushed >= flushThreshold) {
+            flush(stream);
+        }
+        return true;
+    }
+
+    // 연결 종료 시 남은 발화 기록 (통화는 계속 진행 중일 수 있음)
+    public void disconnect(TranscriptStream stream) {
+        flush(stream);
+    }
+
+    /**
+     * 통화 종료 시 버퍼의 모든 발화를 기록 대기열로 넘기고 버퍼 정리
+     */
+    public void complete(Long callId) {
+        TranscriptStream stream = streams.remove(callId);
+        if (stream == null) {
+            // 다른 노드에서 수신한 스트림: 공유 버퍼 전체를 seq 0부터 넘김 (이미 기록된 seq는 무시됨)
+            stream = new TranscriptStream(callId);
+        }
+        boolean flushed;
+        stream.lock.lock();
+        try {
+            stream.closed = true;
+            flushed = flushLocked(stream);
+        } finally {
+            stream.lock.unlock();
+        }
+        if (!flushed) {
+            // 버퍼를 지우지 않고 TTL 동안 남겨 둠 (다시 종료 처리하거나 복구 시 기록)
+            log.warn("Conversation buffer for call {} is kept until it expires because it could not be flushed", callId);
+            return;
+        }
+        conversationBuffer.clearSession(sessionId(callId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.call.stream.idle-flush-ms:3000}")
+    public void flushIdleStreams() {
+        long threshold = System.currentTimeMillis() - idleFlushMs;
+        for (TranscriptStream stream : streams.values()) {
+            if (stream.getLastReceivedAt() < threshold && stream.hasUnflushed()) {
+                flush(stream);
+            }
+        }
+    }
+
+    private void flush(TranscriptStream stream) {
+        stream.lock.lock();
+        try {
+            flushLocked(stream);
+        } finally {
+            stream.lock.unlock();
+        }
+    }
+
+    // 저장소에서 읽지 못하면 seq를 알 수 없으므로 기록하지 않고 다음 flush에서 다시 시도
+    private boolean flushLocked(TranscriptStream stream) {
+        // 조회 전에 센 발화만 차감하여 조회 도중 추가된 발화는 다음 flush 대상으로 남김
+        int pendingBeforeRead = stream.pendingSinceFlush.get();
+        List<SequencedUtterance> fresh;
+        try {
+            fresh = conversationBuffer.getConversationFrom(sessionId(stream.getCallId()), stream.flushed);
+        } catch (ConversationBufferUnavailableException e) {
+            log.warn("Skipping transcript flush for call {}: {}", stream.getCallId(), e.getMessage());
+            return false;
+        }
+        if (!fresh.isEmpty()) {
+            // 저장소 seq는 연속으로 부여되므로 첫 seq부터 이어서 기록
+            int from = (int) fresh.get(0).seq();
+            List<Utterance> utterances = fresh.stream().map(SequencedUtterance::utterance).toList();
+            utteranceBatcher.enqueue(stream.getCallId(), from, utterances);
+            stream.flushed = from + utterances.size();
+            log.debug("Flushed streamed utterances for call {}: seq {}..{}",
+                    stream.getCallId(), from, stream.flushed - 1);
+        }
+        stream.pendingSinceFlush.addAndGet(-pendingBeforeRead);
+        return true;
+    }
+
+    private String sessionId(Long callId) {
+        return SESSION_PREFIX + callId;
+    }
+
+    /**
+     * 통화 하나의 스트림 상태 (flushed: 기록 대기열로 넘긴 다음 seq, lock 보유 중에만 접근)
+     * 수신 카운터는 lock 없이 갱신되어 발화 수신 경로가 flush를 기다리지 않습니다.
+     */
+    public static class TranscriptStream {
+
+        @Getter
+        private final Long callId;
+        @Getter
+        private volatile long lastReceivedAt = System.currentTimeMillis();
+        @Getter
+        private volatile boolean closed;
+        private final AtomicInteger received = new AtomicInteger();
+        private final AtomicInteger pendingSinceFlush = new AtomicInteger();
+        private final ReentrantLock lock = new ReentrantLock();
+        private int flushed;
+
+        TranscriptStream(Long callId) {
+            this(callId, 0);
+        }
+
+        // received: 이 스트림을 열기 전까지 세션에 추가된 발화 수 (최대 발화 수 검사 기준)
+        TranscriptStream(Long callId, long received) {
+            this.callId = callId;
+            this.received.set((int) Math.min(Integer.MAX_VALUE, received));
+        }
+
+        // 수신 기록 후 마지막 기록 이후 쌓인 발화 수 반환
+        int received() {
+            received.incrementAndGet();
+            lastReceivedAt = System.currentTimeMillis();
+            return pendingSinceFlush.incrementAndGet();
+        }
+
+        int getReceivedCount() {
+            return received.get();
+        }
+
+        boolean hasUnflushed() {
+            return pendingSinceFlush.get() > 0;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.bespring.domain.call.service;
+
+import com.bespring.domain.call.dto.Utterance;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 발화 추가 write-behind 배처
+ * 통화별로 대기 중인 발화를 seq 기준으로 모았다가 주기/크기 임계치마다 다중 행 batch insert로 기록합니다.
+ * 같은 seq의 재전송은 대기열과 기본키 양쪽에서 무시되어 멱등하게 처리됩니다.
+ * 기록은 호출자 트랜잭션과 분리된 별도 트랜잭션(REQUIRES_NEW)에서 수행되므로,
+ * 대기열에서 꺼낸 발화가 관계없는 요청의 롤백과 함께 사라지지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UtteranceWriteBehindBatcher {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO call_utterances (call_log_id, seq, speaker, content, spoken_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.call.utterance.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.call.utterance.max-pending:20000}")
+    private int maxPending;
+
+    // 통화별 대기 발화 (seq → 발화), compute/remove로 원자적으로 추가/배출
+    private final Map<Long, NavigableMap<Integer, Utterance>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private Counter writtenCounter;
+    private Counter duplicateCounter;
+    private TransactionTemplate writeTransaction;
+
+    @PostConstruct
+    void init() {
+        writeTransaction = new TransactionTemplate(transactionManager);
+        writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        writtenCounter = meterRegistry.counter("call.utterances.written");
+        duplicateCounter = meterRegistry.counter("call.utterances.duplicates");
+        Gauge.builder("call.utterances.pending", pendingCount, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    public void enqueue(Long callLogId, int startSeq, List<Utterance> utterances) {
+        pending.compute(callLogId, (id, queued) -> {
+            NavigableMap<Integer, Utterance> map = queued != null ? queued : new TreeMap<>();
+            for (int i = 0; i < utterances.size(); i++) {
+                if (map.putIfAbsent(startSeq + i, utterances.get(i)) == null) {
+                    pendingCount.incrementAndGet();
+                } else {
+                    duplicateCounter.increment();
+                }
+            }
+            return map;
+        });
+
+        // 대기량이 상한을 넘으면 호출 스레드에서 바로 기록 (메모리 보호)
+        if (pendingCount.get() >= maxPending) {
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.call.utterance.flush-interval-ms:200}")
+    public void flush() {
+        List<Object[]> rows = new ArrayList<>();
+        for (Long callLogId : pending.keySet()) {
+            drain(callLogId, rows);
+            if (rows.size() >= batchSize) {
+                write(rows);
+                rows = new ArrayList<>();
+            }
+        }
+        if (!rows.isEmpty()) {
+            write(rows);
+        }
+    }
+
+    // 특정 통화의 대기 발화를 즉시 기록 (조회/종료 전 호출)
+    public void flush(Long callLogId) {
+        List<Object[]> rows = new ArrayList<>();
+        drain(callLogId, rows);
+        if (!rows.isEmpty()) {
+            write(rows);
+        }
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private void drain(Long callLogId, List<Object[]> rows) {
+        NavigableMap<Integer, Utterance> queued = pending.remove(callLogId);
+        if (queued == null) {
+            return;
+        }
+        pendingCount.addAndGet(-queued.size());
+        queued.forEach((seq, utterance) -> rows.add(new Object[]{
+                callLogId,
+                seq,
+                utterance.getSpeaker(),
+                utterance.getText(),
+                utterance.getTimestamp() != null ? Timestamp.valueOf(utterance.getTimestamp()) : null
+        }));
+    }
+
+    private void write(List<Object[]> rows) {
+        int[] types = {Types.BIGINT, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP};
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<Object[]> chunk = rows.subList(from, Math.min(rows.size(), from + batchSize));
+            try {
+                writeTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, chunk, types));
+                writtenCounter.increment(chunk.size());
+            } catch (DataIntegrityViolationException e) {
+                // 이미 기록된 seq가 섞인 경우 행 단위로 다시 기록하며 중복만 건너뜀
+                writeIgnoringDuplicates(chunk, types);
+            } catch (Exception e) {
+                log.warn("Failed to write {} utterances, re-queueing: {}", chunk.size(), e.getMessage());
+                requeue(chunk);
+            }
+        }
+    }
+
+    // 배치 트랜잭션은 롤백되었으므로 행마다 별도 트랜잭션으로 기록
+    private void writeIgnoringDuplicates(List<Object[]> rows, int[] types) {
+        List<Object[]> failed = new ArrayList<>();
+        for (Object[] row : rows) {
+            try {
+                writeTransaction.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, row, types));
+                writtenCounter.increment();
+            } catch (DataIntegrityViolationException e) {
+                duplicateCounter.increment();
+            } catch (Exception e) {
+                failed.add(row);
+            }
+        }
+        if (!failed.isEmpty()) {
+            log.warn("Failed to write {} utterances, re-queueing", failed.size());
+            requeue(failed);
+        }
+    }
+
+    private void requeue(List<Object[]> rows) {
+        for (Object[] row : rows) {
+            Timestamp spokenAt = (Timestamp) row[4];
+            Utterance utterance = new Utterance((String) row[2], (String) row[3],
+                    spokenAt != null ? spokenAt.toLocalDateTime() : null);
+            enqueueOne((Long) row[0], (Integer) row[1], utterance);
+        }
+    }
+
+    private void enqueueOne(Long callLogId, int seq, Utterance utterance) {
+        pending.compute(callLogId, (id, queued) -> {
+            NavigableMap<Integer, Utterance> map = queued != null ? queued : new TreeMap<>();
+            if (map.putIfAbsent(seq, utterance) == null) {
+                pendingCount.incrementAndGet();
+            }
+            return map;
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.bespring.domain.call.websocket;
+
+import com.bespring.domain.call.service.TranscriptStreamService;
+import com.bespring.global.exception.CustomException;
+import com.bespring.global.security.JwtUtil;
+import com.bespring.global.security.JwtVerificationCache;
+import com.bespring.global.security.TokenBlacklist;
+import com.bespring.global.security.VerifiedToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대화 스트리밍 WebSocket 핸드셰이크 인증
+ * Authorization 헤더(Bearer) 또는 브라우저용 token 쿼리 파라미터의 JWT를 검증하고,
+ * 경로의 통화가 요청자의 진행 중인 통화인지 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TranscriptHandshakeInterceptor implements HandshakeInterceptor {
+
+    static final String ATTR_USER_ID = "userId";
+    static final String ATTR_STREAM = "transcriptStream";
+
+    private final JwtUtil jwtUtil;
+    private final JwtVerificationCache jwtVerificationCache;
+    private final TokenBlacklist tokenBlacklist;
+    private final TranscriptStreamService transcriptStreamService;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String token = extractToken(request);
+        VerifiedToken verified = token != null ? jwtVerificationCache.verify(token) : null;
+        if (verified == null || verified.getUserId() == null || tokenBlacklist.isRevoked(token)) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        Long callId = extractCallId(request);
+        if (callId == null) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+
+        try {
+            attributes.put(ATTR_STREAM, transcriptStreamService.open(verified.getUserId(), callId));
+        } catch (CustomException e) {
+            log.debug("Rejected transcript stream for call {}: {}", callId, e.getErrorCode());
+            response.setStatusCode(e.getErrorCode().getHttpStatus());
+            return false;
+        }
+        attributes.put(ATTR_USER_ID, verified.getUserId());
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private String extractToken(ServerHttpRequest request) {
+        String token = jwtUtil.extractTokenFromHeader(request.getHeaders().getFirst("Authorization"));
+        if (token != null) {
+            return token;
+        }
+        return UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst("token");
+    }
+
+    // /api/ws/calls/{callId}/transcript
+    private Long extractCallId(ServerHttpRequest request) {
+        List<String> segments = UriComponentsBuilder.fromUri(request.getURI()).build().getPathSegments();
+        int index = segments.indexOf("calls");
+        if (index < 0 || index + 1 >= segments.size()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(segments.get(index + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.bespring.domain.call.websocket;
+
+import com.bespring.domain.call.dto.Utterance;
+import com.bespring.domain.call.service.TranscriptStreamService;
+import com.bespring.domain.call.service.TranscriptStreamService.TranscriptStream;
+import com.bespring.global.exception.CustomException;
+import com.bespring.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.NativeWebSocketSession;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 통화 중 발화를 한 건(객체) 또는 여러 건(배열) 단위의 작은 프레임으로 수신하여 ConversationBuffer에 추가
+ * 프레임 예: {"speaker":"user","text":"일어났어요","timestamp":"2024-01-15T07:30:05"} (timestamp 생략 시 수신 시각)
+ */
+@Component
+@Slf4j
+public class TranscriptWebSocketHandler extends TextWebSocketHandler {
+
+    private final TranscriptStreamService transcriptStreamService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader utteranceReader;
+
+    @Value("${app.call.transcript.max-text-length:4000}")
+    private int maxTextLength;
+
+    @Value("${app.call.stream.max-frame-bytes:65536}")
+    private int maxFrameBytes;
+
+    @Value("${app.call.stream.session-idle-timeout-ms:300000}")
+    private long sessionIdleTimeoutMs;
+
+    public TranscriptWebSocketHandler(TranscriptStreamService transcriptStreamService, ObjectMapper objectMapper) {
+        this.transcriptStreamService = transcriptStreamService;
+        this.objectMapper = objectMapper;
+        this.utteranceReader = objectMapper.readerFor(Utterance.class);
+    }
+
+    // 프레임 크기 및 유휴 연결 제한 (컨테이너 전역 설정 대신 연결마다 적용)
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        session.setTextMessageSizeLimit(maxFrameBytes);
+        if (session instanceof NativeWebSocketSession nativeSession) {
+            Session standardSession = nativeSession.getNativeSession(Session.class);
+            if (standardSession != null) {
+                standardSession.setMaxIdleTimeout(sessionIdleTimeoutMs);
+            }
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        TranscriptStream stream = (TranscriptStream) session.getAttributes().get(TranscriptHandshakeInterceptor.ATTR_STREAM);
+
+        List<Utterance> utterances;
+        try {
+            utterances = parse(message.getPayload());
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.debug("Invalid transcript frame for call {}: {}", stream.getCallId(), e.getMessage());
+            session.close(CloseStatus.BAD_DATA.withReason("invalid utterance frame"));
+            return;
+        }
+
+        try {
+            for (Utterance utterance : utterances) {
+                if (!transcriptStreamService.append(stream, utterance)) {
+                    // 통화가 종료된 스트림
+                    session.close(CloseStatus.NORMAL.withReason("call ended"));
+                    return;
+                }
+            }
+        } catch (CustomException e) {
+            CloseStatus closeStatus = e.getErrorCode() == ErrorCode.CONVERSATION_BUFFER_FULL
+                    ? CloseStatus.SERVICE_OVERLOAD : CloseStatus.POLICY_VIOLATION;
+            session.close(closeStatus.withReason(e.getErrorCode().getCode()));
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        TranscriptStream stream = (TranscriptStream) session.getAttributes().get(TranscriptHandshakeInterceptor.ATTR_STREAM);
+        if (stream == null) {
+            return;
+        }
+        try {
+            transcriptStreamService.disconnect(stream);
+        } catch (Exception e) {
+            log.warn("Failed to flush transcript stream for call {}: {}", stream.getCallId(), e.getMessage());
+        }
+        log.debug("Transcript stream closed for call {}: {}", stream.getCallId(), status);
+    }
+
+    private List<Utterance> parse(String payload) throws JsonProcessingException {
+        JsonNode root = objectMapper.readTree(payload);
+        List<Utterance> utterances = new ArrayList<>();
+        if (root.isArray()) {
+            for (JsonNode node : root) {
+                utterances.add(toUtterance(node));
+            }
+        } else {
+            utterances.add(toUtterance(root));
+        }
+        return utterances;
+    }
+
+    private Utterance toUtterance(JsonNode node) throws JsonProcessingException {
+        Utterance utterance = utteranceReader.treeToValue(node, Utterance.class);
+        if (utterance.getSpeaker() == null || utterance.getSpeaker().isBlank()
+                || utterance.getText() == null || utterance.getText().isBlank()) {
+            throw new IllegalArgumentException("speaker and text are required");
+        }
+        if (utterance.getText().length() > maxTextLength) {
+            throw new IllegalArgumentException("text exceeds " + maxTextLength + " characters");
+        }
+        if (utterance.getTimestamp() == null) {
+            utterance.setTimestamp(LocalDateTime.now());
+        }
+        return utterance;
+    }
+}
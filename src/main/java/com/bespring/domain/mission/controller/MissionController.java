@@ -1,9 +1,13 @@
 package com.bespring.domain.mission.controller;
 
+import com.bespring.domain.mission.dto.request.MissionResultBatchRequest;
 import com.bespring.domain.mission.dto.request.MissionResultRequest;
+import com.bespring.domain.mission.dto.response.MissionAnalyticsResponse;
 import com.bespring.domain.mission.entity.MissionResult;
 import com.bespring.domain.mission.service.MissionService;
 import com.bespring.global.dto.ApiResponse;
+import com.bespring.global.pagination.CursorSlice;
+import com.bespring.global.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,10 +17,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "미션 결과", description = "알람 미션 결과 저장 및 조회 API")
 @Slf4j
@@ -54,6 +63,32 @@ public class MissionController {
         return ResponseEntity.status(201).body(ApiResponse.success(missionResult));
     }
 
+    @Operation(
+            summary = "미션 결과 일괄 저장",
+            description = "한 통화의 여러 미션 결과를 한 번에 저장합니다. 본인 통화 기록에만 저장할 수 있습니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "201",
+                    description = "미션 결과 일괄 저장 성공"
+            )
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<MissionResult>>> saveMissionResults(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody MissionResultBatchRequest request) {
+
+        Long userId = userPrincipal.getUserId();
+
+        log.info("Save mission results request: userId={}, callLogId={}, count={}",
+                userId, request.getCallLogId(), request.getResults().size());
+
+        List<MissionResult> missionResults = missionService.saveMissionResults(
+                userId, request.getCallLogId(), request.getResults());
+
+        return ResponseEntity.status(201).body(ApiResponse.success(missionResults));
+    }
+
     @Operation(
             summary = "미션 결과 조회",
             description = "특정 통화 기록에 대한 미션 결과를 조회합니다."
@@ -73,4 +108,63 @@ public class MissionController {
 
         return ResponseEntity.ok(ApiResponse.success(missionResults));
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "미션 분석 조회",
+            description = "기간 내 미션 유형별 전체/성공 횟수와 성공률, 기간 단위별 추이를 조회합니다. " +
+                    "통화 시작 날짜 기준이며 기간을 지정하지 않으면 최근 30일입니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "미션 분석 조회 성공"
+            )
+    })
+    @GetMapping("/analytics")
+    public ResponseEntity<ApiResponse<MissionAnalyticsResponse>> getMissionAnalytics(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "시작 날짜 (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "추이 집계 단위 (DAY, WEEK, MONTH)")
+            @RequestParam(defaultValue = "DAY") MissionAnalyticsResponse.Bucket bucket) {
+
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(29);
+
+        MissionAnalyticsResponse analytics = missionService.getMissionAnalytics(
+                userPrincipal.getUserId(), start, end, bucket);
+
+        return ResponseEntity.ok(ApiResponse.success(analytics));
+    }
+
+    @Operation(
+            summary = "최근 미션 결과 조회",
+            description = "사용자의 최근 미션 결과를 최신순으로 커서 페이지 조회합니다. 첫 페이지는 cursor 없이 요청합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "최근 미션 결과 조회 성공"
+            )
+    })
+    @GetMapping("/recent")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getRecentMissionResults(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1-100)")
+            @RequestParam(defaultValue = "20") int limit) {
+
+        CursorSlice<MissionResult> slice = missionService.getRecentMissionResults(
+                userPrincipal.getUserId(), cursor, limit);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("missionResults", slice.getContent());
+        response.put("hasMore", slice.isHasMore());
+        response.put("nextCursor", slice.getNextCursor());
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,19 @@
+package com.bespring.domain.mission.dto;
+
+import com.bespring.domain.mission.entity.MissionResult;
+
+import java.time.LocalDate;
+
+/**
+ * 통화일/미션 유형별 미션 결과 집계 (GROUP BY 통화 시작 날짜, 미션 유형)
+ */
+public interface MissionDailyAggregate {
+
+    LocalDate getStatDate();
+
+    MissionResult.MissionType getMissionType();
+
+    Long getTotalCount();
+
+    Long getSuccessCount();
+}
@@ -0,0 +1,38 @@
+package com.bespring.domain.mission.dto.request;
+
+import com.bespring.domain.mission.entity.MissionResult;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MissionResultBatchRequest {
+
+    @NotNull(message = "통화 로그 ID는 필수입니다")
+    private Long callLogId;
+
+    @NotEmpty(message = "미션 결과 목록은 필수입니다")
+    @Size(max = 20, message = "한 번에 최대 20개까지 저장할 수 있습니다")
+    @Valid
+    private List<Item> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "미션 타입은 필수입니다")
+        private MissionResult.MissionType missionType;
+
+        @NotNull(message = "성공 여부는 필수입니다")
+        private Boolean success;
+    }
+}
@@ -0,0 +1,54 @@
+package com.bespring.domain.mission.dto.response;
+
+import com.bespring.domain.mission.entity.MissionResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MissionAnalyticsResponse {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Bucket bucket;
+    private Long totalCount;
+    private Long successCount;
+    private Double successRate;
+    private List<TypeStat> byType;
+    private List<TrendPoint> trend;
+
+    // 추이 집계 단위 (WEEK는 월요일 시작)
+    public enum Bucket {
+        DAY,
+        WEEK,
+        MONTH
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TypeStat {
+        private MissionResult.MissionType missionType;
+        private Long totalCount;
+        private Long successCount;
+        private Double successRate;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TrendPoint {
+        private LocalDate bucketStart;
+        private Long totalCount;
+        private Long successCount;
+        private Double successRate;
+    }
+}
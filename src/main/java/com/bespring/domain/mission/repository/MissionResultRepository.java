@@ -1,12 +1,15 @@
 package com.bespring.domain.mission.repository;
 
 import com.bespring.domain.call.entity.CallLog;
+import com.bespring.domain.mission.dto.MissionDailyAggregate;
 import com.bespring.domain.mission.entity.MissionResult;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +38,23 @@ public interface MissionResultRepository extends JpaRepository<MissionResult, Lo
     @Query("SELECT COUNT(m) FROM MissionResult m JOIN m.callLog c WHERE c.user.id = :userId AND m.missionType = :missionType")
     Long countTotalByUserIdAndMissionType(@Param("userId") Long userId, @Param("missionType") MissionResult.MissionType missionType);
 
-    @Query("SELECT m FROM MissionResult m JOIN m.callLog c WHERE c.user.id = :userId ORDER BY m.createdAt DESC")
-    List<MissionResult> findRecentByUserId(@Param("userId") Long userId);
+    // 통화일/유형별 집계 한 번으로 유형별 합계와 기간 추이를 함께 계산 (idx_call_logs_user_start → idx_mission_results_call_type)
+    @Query("SELECT CAST(c.callStart AS LocalDate) AS statDate, m.missionType AS missionType, COUNT(m) AS totalCount, " +
+           "SUM(CASE WHEN m.success = true THEN 1 ELSE 0 END) AS successCount " +
+           "FROM MissionResult m JOIN m.callLog c WHERE c.user.id = :userId " +
+           "AND c.callStart >= :startDate AND c.callStart < :endDate " +
+           "GROUP BY CAST(c.callStart AS LocalDate), m.missionType")
+    List<MissionDailyAggregate> aggregateDailyByUserIdAndMissionType(
+            @Param("userId") Long userId, @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    // 최근 미션 결과 keyset 페이지 조회 - (createdAt, id)가 커서보다 앞선 행을 limit + 1건
+    @Query("SELECT m FROM MissionResult m JOIN FETCH m.callLog c WHERE c.user.id = :userId " +
+           "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<MissionResult> findByUserIdBeforeCursor(
+            @Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Pageable pageable
+    );
 }
\ No newline at end of file
@@ -1,13 +1,20 @@
 package com.bespring.domain.mission.service;
 
+import com.bespring.domain.mission.dto.request.MissionResultBatchRequest;
+import com.bespring.domain.mission.dto.response.MissionAnalyticsResponse;
 import com.bespring.domain.mission.entity.MissionResult;
+import com.bespring.global.pagination.CursorSlice;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface MissionService {
 
     MissionResult saveMissionResult(Long callLogId, MissionResult.MissionType missionType, boolean success);
 
+    // 한 통화의 미션 결과 일괄 저장 (통화 소유자 검증 1회, INSERT는 JDBC 배치)
+    List<MissionResult> saveMissionResults(Long userId, Long callLogId, List<MissionResultBatchRequest.Item> results);
+
     List<MissionResult> getMissionResults(Long callLogId);
 
     Long getTotalMissionCount(Long userId);
@@ -19,4 +26,11 @@ public interface MissionService {
     Long getMissionCountByType(Long userId, MissionResult.MissionType missionType);
 
     Long getSuccessMissionCountByType(Long userId, MissionResult.MissionType missionType);
+
+    // 유형별 합계/성공률과 기간 추이 (GROUP BY 집계 한 번, 사용자별 캐시)
+    MissionAnalyticsResponse getMissionAnalytics(Long userId, LocalDate startDate, LocalDate endDate,
+                                                 MissionAnalyticsResponse.Bucket bucket);
+
+    // 최근 미션 결과 (createdAt, id) keyset 페이지 조회
+    CursorSlice<MissionResult> getRecentMissionResults(Long userId, String cursor, int limit);
 }
\ No newline at end of file
@@ -2,15 +2,34 @@ package com.bespring.domain.mission.service;
 
 import com.bespring.domain.call.entity.CallLog;
 import com.bespring.domain.call.service.CallLogService;
+import com.bespring.domain.mission.dto.MissionDailyAggregate;
+import com.bespring.domain.mission.dto.request.MissionResultBatchRequest;
+import com.bespring.domain.mission.dto.response.MissionAnalyticsResponse;
 import com.bespring.domain.mission.entity.MissionResult;
 import com.bespring.domain.mission.repository.MissionResultRepository;
+import com.bespring.domain.statistics.event.StatisticsChangedEvent;
+import com.bespring.domain.statistics.service.StatisticsCache;
 import com.bespring.global.exception.InvalidRequestException;
+import com.bespring.global.pagination.CursorSlice;
+import com.bespring.global.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Slf4j
 @Service
@@ -18,8 +37,13 @@ import java.util.List;
 @Transactional
 public class MissionServiceImpl implements MissionService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final long MAX_ANALYTICS_DAYS = 366;
+
     private final MissionResultRepository missionResultRepository;
     private final CallLogService callLogService;
+    private final StatisticsCache statisticsCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public MissionResult saveMissionResult(Long callLogId, MissionResult.MissionType missionType, boolean success) {
@@ -33,6 +57,7 @@ public class MissionServiceImpl implements MissionService {
                 .build();
 
         MissionResult saved = missionResultRepository.save(missionResult);
+        publishStatisticsChanged(callLog);
 
         log.info("Mission result saved: callLogId={}, missionType={}, success={}",
                 callLogId, missionType, success);
@@ -40,6 +65,34 @@ public class MissionServiceImpl implements MissionService {
         return saved;
     }
 
+    @Override
+    public List<MissionResult> saveMissionResults(Long userId, Long callLogId,
+                                                  List<MissionResultBatchRequest.Item> results) {
+        CallLog callLog = callLogService.findByIdAndUserId(callLogId, userId)
+                .orElseThrow(() -> new InvalidRequestException("통화 로그를 찾을 수 없습니다."));
+
+        Set<MissionResult.MissionType> missionTypes = EnumSet.noneOf(MissionResult.MissionType.class);
+        List<MissionResult> missionResults = new ArrayList<>(results.size());
+        for (MissionResultBatchRequest.Item item : results) {
+            if (!missionTypes.add(item.getMissionType())) {
+                throw new InvalidRequestException("같은 미션 타입이 중복되었습니다: " + item.getMissionType());
+            }
+            missionResults.add(MissionResult.builder()
+                    .callLog(callLog)
+                    .missionType(item.getMissionType())
+                    .success(item.getSuccess())
+                    .build());
+        }
+
+        // pooled ID라 flush 시 하나의 JDBC 배치로 INSERT
+        List<MissionResult> saved = missionResultRepository.saveAll(missionResults);
+        publishStatisticsChanged(callLog);
+
+        log.info("Mission results saved: callLogId={}, count={}", callLogId, saved.size());
+
+        return saved;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<MissionResult> getMissionResults(Long callLogId) {
@@ -85,4 +138,107 @@ public class MissionServiceImpl implements MissionService {
     public Long getSuccessMissionCountByType(Long userId, MissionResult.MissionType missionType) {
         return missionResultRepository.countSuccessByUserIdAndMissionType(userId, missionType);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public MissionAnalyticsResponse getMissionAnalytics(Long userId, LocalDate startDate, LocalDate endDate,
+                                                        MissionAnalyticsResponse.Bucket bucket) {
+        if (endDate.isBefore(startDate)) {
+            throw new InvalidRequestException("종료 날짜는 시작 날짜 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_ANALYTICS_DAYS) {
+            throw new InvalidRequestException("조회 기간은 최대 " + MAX_ANALYTICS_DAYS + "일입니다.");
+        }
+
+        return statisticsCache.getMissions(userId, startDate, endDate, bucket.name(), MissionAnalyticsResponse.class,
+                () -> loadMissionAnalytics(userId, startDate, endDate, bucket));
+    }
+
+    private MissionAnalyticsResponse loadMissionAnalytics(Long userId, LocalDate startDate, LocalDate endDate,
+                                                          MissionAnalyticsResponse.Bucket bucket) {
+        List<MissionDailyAggregate> rows = missionResultRepository.aggregateDailyByUserIdAndMissionType(
+                userId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+
+        // 통화일/유형별 행을 유형 합계와 기간 버킷 합계로 나눠 누적 ([0] 전체, [1] 성공)
+        Map<MissionResult.MissionType, long[]> byType = new EnumMap<>(MissionResult.MissionType.class);
+        for (MissionResult.MissionType type : MissionResult.MissionType.values()) {
+            byType.put(type, new long[2]);
+        }
+        Map<LocalDate, long[]> byBucket = new TreeMap<>();
+        long total = 0L;
+        long success = 0L;
+
+        for (MissionDailyAggregate row : rows) {
+            long rowTotal = row.getTotalCount() != null ? row.getTotalCount() : 0L;
+            long rowSuccess = row.getSuccessCount() != null ? row.getSuccessCount() : 0L;
+
+            long[] typeCounts = byType.get(row.getMissionType());
+            typeCounts[0] += rowTotal;
+            typeCounts[1] += rowSuccess;
+
+            long[] bucketCounts = byBucket.computeIfAbsent(bucketStart(row.getStatDate(), bucket), date -> new long[2]);
+            bucketCounts[0] += rowTotal;
+            bucketCounts[1] += rowSuccess;
+
+            total += rowTotal;
+            success += rowSuccess;
+        }
+
+        List<MissionAnalyticsResponse.TypeStat> typeStats = new ArrayList<>(byType.size());
+        byType.forEach((type, counts) -> typeStats.add(MissionAnalyticsResponse.TypeStat.builder()
+                .missionType(type)
+                .totalCount(counts[0])
+                .successCount(counts[1])
+                .successRate(rate(counts[1], counts[0]))
+                .build()));
+
+        List<MissionAnalyticsResponse.TrendPoint> trend = new ArrayList<>(byBucket.size());
+        byBucket.forEach((date, counts) -> trend.add(MissionAnalyticsResponse.TrendPoint.builder()
+                .bucketStart(date)
+                .totalCount(counts[0])
+                .successCount(counts[1])
+                .successRate(rate(counts[1], counts[0]))
+                .build()));
+
+        return MissionAnalyticsResponse.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .bucket(bucket)
+                .totalCount(total)
+                .successCount(success)
+                .successRate(rate(success, total))
+                .byType(typeStats)
+                .trend(trend)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<MissionResult> getRecentMissionResults(Long userId, String cursor, int limit) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        List<MissionResult> rows = missionResultRepository.findByUserIdBeforeCursor(
+                userId, position.getCreatedAt(), position.getId(), PageRequest.of(0, pageSize + 1));
+
+        return CursorSlice.of(rows, pageSize, m -> KeysetCursor.of(m.getCreatedAt(), m.getId()));
+    }
+
+    private LocalDate bucketStart(LocalDate date, MissionAnalyticsResponse.Bucket bucket) {
+        return switch (bucket) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    private double rate(long success, long total) {
+        return total == 0 ? 0.0 : (double) success / total * 100.0;
+    }
+
+    // 미션 통계 캐시 무효화 (통화 시작 날짜 기준으로 집계되므로 해당 날짜로 발행)
+    private void publishStatisticsChanged(CallLog callLog) {
+        LocalDate statDate = callLog.getCallStart() != null ? callLog.getCallStart().toLocalDate() : LocalDate.now();
+        eventPublisher.publishEvent(new StatisticsChangedEvent(callLog.getUser().getId(), statDate));
+    }
+}
@@ -1,11 +1,16 @@
 package com.bespring.domain.points.controller;
 
+import com.bespring.domain.points.dto.request.PointsBulkAwardRequest;
 import com.bespring.domain.points.dto.request.PointsEarnRequest;
 import com.bespring.domain.points.dto.request.PointsSpendRequest;
+import com.bespring.domain.points.dto.response.PointsBulkAwardResponse;
 import com.bespring.domain.points.dto.response.PointsSummaryResponse;
 import com.bespring.domain.points.entity.PointsHistory;
+import com.bespring.domain.points.service.PointsBulkAwardService;
 import com.bespring.domain.points.service.PointsService;
 import com.bespring.global.dto.ApiResponse;
+import com.bespring.global.pagination.CursorSlice;
+import com.bespring.global.pagination.KeysetCursor;
 import com.bespring.global.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -36,6 +41,7 @@ import java.util.Map;
 public class PointsController {
 
     private final PointsService pointsService;
+    private final PointsBulkAwardService pointsBulkAwardService;
 
     @Operation(
             summary = "포인트 현황 조회",
@@ -60,7 +66,9 @@ public class PointsController {
 
     @Operation(
             summary = "포인트 내역 조회",
-            description = "사용자의 포인트 사용 내역을 조회합니다."
+            description = "사용자의 포인트 사용 내역을 조회합니다. cursor 파라미터를 보내면(첫 페이지는 빈 값) " +
+                    "(생성 시각, ID) 기준 커서 방식으로 조회하며 totalCount는 includeTotal=true일 때만 포함합니다. " +
+                    "cursor가 없으면 기존 offset 방식으로 동작합니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -76,17 +84,36 @@ public class PointsController {
             @Parameter(description = "오프셋 (0부터 시작)")
             @RequestParam(defaultValue = "0") int offset,
             @Parameter(description = "페이지 크기 (1-100)")
-            @RequestParam(defaultValue = "20") int limit) {
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 첫 페이지는 빈 값)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 방식에서 전체 건수 포함 여부")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
 
         Long userId = userPrincipal.getUserId();
+        Map<String, Object> response = new HashMap<>();
+
+        if (cursor != null) {
+            CursorSlice<PointsHistory> slice = pointsService.getPointsHistoryByCursor(userId, type, cursor, limit);
+
+            response.put("transactions", slice.getContent());
+            response.put("hasMore", slice.isHasMore());
+            response.put("nextCursor", slice.getNextCursor());
+            if (includeTotal) {
+                response.put("totalCount", pointsService.countPointsHistory(userId, type));
+            }
+            return ResponseEntity.ok(ApiResponse.success(response));
+        }
+
+        // 기존 offset 방식 (호환용) - 다음 페이지부터 커서 방식으로 이어갈 수 있도록 nextCursor도 함께 반환
         Pageable pageable = PageRequest.of(offset / limit, limit);
 
         Page<PointsHistory> historyPage = pointsService.getPointsHistory(userId, type, pageable);
 
-        Map<String, Object> response = new HashMap<>();
         response.put("transactions", historyPage.getContent());
         response.put("totalCount", historyPage.getTotalElements());
         response.put("hasMore", historyPage.hasNext());
+        response.put("nextCursor", nextCursorOf(historyPage));
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -154,4 +181,41 @@ public class PointsController {
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "포인트 일괄 지급",
+            description = "여러 사용자에게 포인트를 한 번에 지급합니다. X-Admin-Key 헤더에 관리자 키가 필요합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "포인트 일괄 지급 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "관리자 키 불일치"
+            )
+    })
+    @PostMapping("/bulk-award")
+    public ResponseEntity<ApiResponse<PointsBulkAwardResponse>> bulkAwardPoints(
+            @Parameter(description = "관리자 키")
+            @RequestHeader(value = "X-Admin-Key", required = false) String adminKey,
+            @Valid @RequestBody PointsBulkAwardRequest request) {
+
+        pointsBulkAwardService.verifyAdminKey(adminKey);
+
+        log.info("Bulk award points request: entries={}", request.getAwards().size());
+
+        PointsBulkAwardResponse response = pointsBulkAwardService.award(request.getAwards());
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    private String nextCursorOf(Page<PointsHistory> page) {
+        if (!page.hasNext() || page.getContent().isEmpty()) {
+            return null;
+        }
+        PointsHistory last = page.getContent().get(page.getContent().size() - 1);
+        return KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+    }
+}
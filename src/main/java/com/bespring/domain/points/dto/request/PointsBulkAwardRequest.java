@@ -0,0 +1,52 @@
+package com.bespring.domain.points.dto.request;
+
+import com.bespring.domain.points.entity.PointsHistory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "포인트 일괄 지급 요청")
+public class PointsBulkAwardRequest {
+
+    @Schema(description = "지급 목록", required = true)
+    @NotEmpty(message = "지급 목록은 필수입니다")
+    @Size(max = 5000, message = "한 번에 최대 5000건까지 지급할 수 있습니다")
+    @Valid
+    private List<Award> awards;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Award {
+
+        @Schema(description = "사용자 ID", example = "1", required = true)
+        @NotNull(message = "사용자 ID는 필수입니다")
+        private Long userId;
+
+        @Schema(description = "포인트 금액", example = "10", required = true)
+        @NotNull(message = "포인트 금액은 필수입니다")
+        @Positive(message = "포인트 금액은 양수여야 합니다")
+        private Integer amount;
+
+        @Schema(description = "포인트 타입", example = "GRADE", required = true)
+        @NotNull(message = "포인트 타입은 필수입니다")
+        private PointsHistory.PointType type;
+
+        @Schema(description = "설명", example = "이벤트 보상", required = true)
+        @NotBlank(message = "설명은 필수입니다")
+        @Size(max = 200, message = "설명은 200자 이하여야 합니다")
+        private String description;
+    }
+}
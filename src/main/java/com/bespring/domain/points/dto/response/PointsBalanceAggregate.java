@@ -0,0 +1,15 @@
+package com.bespring.domain.points.dto.response;
+
+import com.bespring.domain.points.entity.PointsHistory;
+
+/**
+ * 사용자/유형별 원장 합계 집계 결과 (잔액 대사용)
+ */
+public interface PointsBalanceAggregate {
+
+    Long getUserId();
+
+    PointsHistory.PointType getType();
+
+    Long getBalance();
+}
@@ -0,0 +1,22 @@
+package com.bespring.domain.points.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "포인트 일괄 지급 응답")
+public class PointsBulkAwardResponse {
+
+    @Schema(description = "기록한 포인트 내역 수", example = "1200")
+    private Integer awardedCount;
+
+    @Schema(description = "잔액이 변경된 사용자 수", example = "1000")
+    private Integer userCount;
+
+    @Schema(description = "지급한 포인트 합계", example = "12000")
+    private Long totalAmount;
+}
@@ -0,0 +1,13 @@
+package com.bespring.domain.points.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 포인트 합계 집계 결과 (GROUP BY 적립 날짜)
+ */
+public interface PointsDailyAggregate {
+
+    LocalDate getStatDate();
+
+    Long getPoints();
+}
@@ -8,7 +8,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "points_history")
+@Table(name = "points_history", indexes = {
+        @Index(name = "idx_points_history_user_type_created", columnList = "user_id, type, created_at, amount"),
+        @Index(name = "idx_points_history_user_created", columnList = "user_id, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,8 +19,10 @@ import java.time.LocalDateTime;
 @Builder
 public class PointsHistory {
 
+    // pooled ID (50개 단위 할당) - IDENTITY와 달리 INSERT JDBC 배치가 가능
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "points_history_seq")
+    @SequenceGenerator(name = "points_history_seq", sequenceName = "points_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,7 @@
 package com.bespring.domain.points.repository;
 
+import com.bespring.domain.points.dto.response.PointsBalanceAggregate;
+import com.bespring.domain.points.dto.response.PointsDailyAggregate;
 import com.bespring.domain.points.entity.PointsHistory;
 import com.bespring.domain.user.entity.User;
 import org.springframework.data.domain.Page;
@@ -10,6 +12,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface PointsHistoryRepository extends JpaRepository<PointsHistory, Long> {
@@ -18,23 +22,61 @@ public interface PointsHistoryRepository extends JpaRepository<PointsHistory, Lo
 
     Page<PointsHistory> findByUserAndTypeOrderByCreatedAtDesc(User user, PointsHistory.PointType type, Pageable pageable);
 
-    @Query("SELECT p FROM PointsHistory p JOIN FETCH p.user WHERE p.user = :user ORDER BY p.createdAt DESC")
+    @Query("SELECT p FROM PointsHistory p JOIN FETCH p.user WHERE p.user = :user ORDER BY p.createdAt DESC, p.id DESC")
     Page<PointsHistory> findByUserWithUserOrderByCreatedAtDesc(@Param("user") User user, Pageable pageable);
 
-    @Query("SELECT p FROM PointsHistory p JOIN FETCH p.user WHERE p.user = :user AND p.type = :type ORDER BY p.createdAt DESC")
+    @Query("SELECT p FROM PointsHistory p JOIN FETCH p.user WHERE p.user = :user AND p.type = :type ORDER BY p.createdAt DESC, p.id DESC")
     Page<PointsHistory> findByUserAndTypeWithUserOrderByCreatedAtDesc(
             @Param("user") User user, @Param("type") PointsHistory.PointType type, Pageable pageable
     );
 
+    // keyset 페이지 조회 - (createdAt, id)가 커서보다 앞선 행을 limit + 1건 (idx_points_history_user_created)
+    @Query("SELECT p FROM PointsHistory p JOIN FETCH p.user WHERE p.user.id = :userId " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PointsHistory> findByUserIdBeforeCursor(
+            @Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Pageable pageable
+    );
+
+    // 유형 필터 keyset 조회 (idx_points_history_user_type_created)
+    @Query("SELECT p FROM PointsHistory p JOIN FETCH p.user WHERE p.user.id = :userId AND p.type = :type " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PointsHistory> findByUserIdAndTypeBeforeCursor(
+            @Param("userId") Long userId, @Param("type") PointsHistory.PointType type,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable
+    );
+
     @Query("SELECT SUM(p.amount) FROM PointsHistory p WHERE p.user = :user AND p.type = :type")
     Integer sumAmountByUserAndType(@Param("user") User user, @Param("type") PointsHistory.PointType type);
 
+    @Query("SELECT SUM(p.amount) FROM PointsHistory p WHERE p.user.id = :userId AND p.type = :type")
+    Integer sumAmountByUserIdAndType(@Param("userId") Long userId, @Param("type") PointsHistory.PointType type);
+
     @Query("SELECT SUM(p.amount) FROM PointsHistory p WHERE p.user = :user AND p.type = :type AND p.createdAt >= :startDate")
     Integer sumAmountByUserAndTypeAfterDate(@Param("user") User user, @Param("type") PointsHistory.PointType type, @Param("startDate") LocalDateTime startDate);
 
+    // 사용자/유형별 원장 합계 - 잔액 대사용 (idx_points_history_user_type_created로 인덱스만 읽음)
+    @Query("SELECT p.user.id AS userId, p.type AS type, SUM(p.amount) AS balance FROM PointsHistory p " +
+           "WHERE p.user.id IN :userIds GROUP BY p.user.id, p.type")
+    List<PointsBalanceAggregate> sumBalancesByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 일별 포인트 합계 (GROUP BY 적립 날짜) - 일일 통계 롤업 백필용
+    @Query("SELECT CAST(p.createdAt AS LocalDate) AS statDate, SUM(p.amount) AS points " +
+           "FROM PointsHistory p WHERE p.user.id = :userId AND p.type = :type " +
+           "GROUP BY CAST(p.createdAt AS LocalDate)")
+    List<PointsDailyAggregate> sumDailyAmountByUserIdAndType(
+            @Param("userId") Long userId, @Param("type") PointsHistory.PointType type
+    );
+
     @Query("SELECT COUNT(p) FROM PointsHistory p WHERE p.user = :user")
     Long countByUser(@Param("user") User user);
 
+    long countByUser_Id(Long userId);
+
+    long countByUser_IdAndType(Long userId, PointsHistory.PointType type);
+
     @Query("SELECT p FROM PointsHistory p JOIN FETCH p.user WHERE p.user = :user AND p.createdAt >= :startDate AND p.createdAt < :endDate ORDER BY p.createdAt DESC")
     Page<PointsHistory> findByUserAndDateRangeWithUserOrderByCreatedAtDesc(
             @Param("user") User user, @Param("startDate") LocalDateTime startDate,
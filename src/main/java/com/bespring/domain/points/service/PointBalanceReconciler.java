@@ -0,0 +1,48 @@
+package com.bespring.domain.points.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포인트 잔액 대사 작업
+ * 주기마다 전체 사용자를 id 순서로 배치 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.points.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class PointBalanceReconciler {
+
+    private final PointBalanceReconciliationService reconciliationService;
+
+    @Value("${app.points.reconciliation.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.points.reconciliation.interval-ms:21600000}",
+            initialDelayString = "${app.points.reconciliation.initial-delay-ms:300000}")
+    public void reconcile() {
+        long lastId = 0L;
+        int batches = 0;
+
+        while (true) {
+            Long processedId;
+            try {
+                processedId = reconciliationService.reconcileBatch(lastId, batchSize);
+            } catch (Exception e) {
+                log.warn("Point balance reconciliation batch failed after user {}: {}", lastId, e.getMessage());
+                return;
+            }
+
+            if (processedId == null) {
+                log.info("Point balance reconciliation completed: {} batches (last user id: {})", batches, lastId);
+                return;
+            }
+            lastId = processedId;
+            batches++;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.bespring.domain.points.service;
+
+import com.bespring.domain.points.dto.response.PointsBalanceAggregate;
+import com.bespring.domain.points.entity.PointsHistory;
+import com.bespring.domain.points.repository.PointsHistoryRepository;
+import com.bespring.domain.user.entity.User;
+import com.bespring.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구체화된 포인트 잔액(users)을 원장(points_history) 합계와 대사 (사용자 배치 단위 트랜잭션)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PointBalanceReconciliationService {
+
+    private final UserRepository userRepository;
+    private final PointsHistoryRepository pointsHistoryRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.points.reconciliation.repair:true}")
+    private boolean repair;
+
+    /**
+     * afterId 이후 사용자 최대 batchSize명의 잔액을 원장과 비교
+     * 잔액과 원장 합계를 같은 트랜잭션 스냅샷에서 읽고, 보정은 그 사이 잔액이 바뀌지 않은 경우에만 적용
+     * @return 처리한 마지막 사용자 id (대상이 없으면 null)
+     */
+    @Transactional
+    public Long reconcileBatch(Long afterId, int batchSize) {
+        List<Long> userIds = userRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+        if (userIds.isEmpty()) {
+            return null;
+        }
+
+        List<User> users = userRepository.findAllById(userIds);
+        Map<Long, long[]> ledger = new HashMap<>();
+        for (PointsBalanceAggregate row : pointsHistoryRepository.sumBalancesByUserIds(userIds)) {
+            long[] sums = ledger.computeIfAbsent(row.getUserId(), id -> new long[2]);
+            sums[row.getType() == PointsHistory.PointType.CONSUMPTION ? 0 : 1] = row.getBalance() != null ? row.getBalance() : 0L;
+        }
+
+        for (User user : users) {
+            long[] sums = ledger.getOrDefault(user.getId(), new long[2]);
+            int consumption = user.getConsumptionBalance();
+            int grade = user.getGradeBalance();
+            int points = user.getPoints();
+            if (consumption == sums[0] && grade == sums[1] && points == consumption + grade) {
+                continue;
+            }
+
+            meterRegistry.counter("points.balance.mismatches").increment();
+            log.warn("Point balance mismatch for user {}: consumption {} (ledger {}), grade {} (ledger {}), points {}",
+                    user.getId(), consumption, sums[0], grade, sums[1], points);
+
+            if (repair && userRepository.repairBalances(user.getId(), (int) sums[0], (int) sums[1], consumption, grade) > 0) {
+                meterRegistry.counter("points.balance.repaired").increment();
+            }
+        }
+        return userIds.get(userIds.size() - 1);
+    }
+}
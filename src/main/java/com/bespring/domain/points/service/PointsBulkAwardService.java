@@ -0,0 +1,130 @@
+package com.bespring.domain.points.service;
+
+import com.bespring.domain.points.dto.request.PointsBulkAwardRequest;
+import com.bespring.domain.points.dto.response.PointsBulkAwardResponse;
+import com.bespring.domain.points.entity.PointsHistory;
+import com.bespring.domain.points.repository.PointsHistoryRepository;
+import com.bespring.domain.statistics.service.UserDailyStatsService;
+import com.bespring.domain.user.repository.UserRepository;
+import com.bespring.global.exception.CustomException;
+import com.bespring.global.exception.ErrorCode;
+import com.bespring.global.exception.UserNotFoundException;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 포인트 일괄 지급
+ * 내역은 JPA 배치 INSERT(pooled ID)로, 잔액은 사용자별로 합산한 증감분을 JDBC 배치 UPDATE로 반영합니다.
+ * 일일 통계 롤업은 flush-size 사용자 단위로 묶어 갱신합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PointsBulkAwardService {
+
+    private static final String APPLY_BALANCE_DELTA_SQL =
+            "UPDATE users SET consumption_balance = consumption_balance + ?, grade_balance = grade_balance + ?, " +
+            "points = points + ? WHERE id = ?";
+
+    private final PointsHistoryRepository pointsHistoryRepository;
+    private final UserRepository userRepository;
+    private final UserDailyStatsService userDailyStatsService;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${app.points.bulk-award.admin-key:}")
+    private String adminKey;
+
+    @Value("${app.points.bulk-award.flush-size:500}")
+    private int flushSize;
+
+    // 관리자 키 검증 (설정되지 않았으면 기능 비활성화)
+    public void verifyAdminKey(String providedKey) {
+        if (adminKey.isBlank() || providedKey == null
+                || !MessageDigest.isEqual(adminKey.getBytes(StandardCharsets.UTF_8), providedKey.getBytes(StandardCharsets.UTF_8))) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
+    }
+
+    @Transactional
+    public PointsBulkAwardResponse award(List<PointsBulkAwardRequest.Award> awards) {
+        // 사용자별 유형 증감분 합산 (id 순서로 갱신해 동시 실행 시 교착 방지)
+        Map<Long, long[]> deltas = new TreeMap<>();
+        long totalAmount = 0L;
+        for (PointsBulkAwardRequest.Award award : awards) {
+            long[] delta = deltas.computeIfAbsent(award.getUserId(), id -> new long[2]);
+            delta[award.getType() == PointsHistory.PointType.CONSUMPTION ? 0 : 1] += award.getAmount();
+            totalAmount += award.getAmount();
+        }
+
+        Set<Long> existing = new HashSet<>(userRepository.findExistingIds(deltas.keySet()));
+        if (existing.size() != deltas.size()) {
+            List<Long> missing = deltas.keySet().stream().filter(id -> !existing.contains(id)).toList();
+            throw new UserNotFoundException("사용자를 찾을 수 없습니다: " + missing);
+        }
+
+        // 포인트 내역 (원장) - flush-size마다 flush/clear 해서 영속성 컨텍스트가 커지지 않게 유지
+        List<PointsHistory> chunk = new ArrayList<>(Math.min(flushSize, awards.size()));
+        for (PointsBulkAwardRequest.Award award : awards) {
+            chunk.add(PointsHistory.builder()
+                    .user(userRepository.getReferenceById(award.getUserId()))
+                    .type(award.getType())
+                    .amount(award.getAmount())
+                    .description(award.getDescription())
+                    .build());
+            if (chunk.size() >= flushSize) {
+                flushChunk(chunk);
+            }
+        }
+        flushChunk(chunk);
+
+        // 잔액 - 사용자당 UPDATE 한 건씩 JDBC 배치로 반영
+        List<Object[]> updates = new ArrayList<>(deltas.size());
+        deltas.forEach((userId, delta) -> updates.add(new Object[]{delta[0], delta[1], delta[0] + delta[1], userId}));
+        jdbcTemplate.batchUpdate(APPLY_BALANCE_DELTA_SQL, updates);
+
+        // 등급 포인트는 일일 통계 롤업에도 반영 - flush-size 사용자마다 일괄 반영 (캐시 무효화도 묶음 단위)
+        LocalDate today = LocalDate.now();
+        Map<Long, Integer> gradePoints = new LinkedHashMap<>();
+        for (Map.Entry<Long, long[]> entry : deltas.entrySet()) {
+            if (entry.getValue()[1] != 0) {
+                gradePoints.put(entry.getKey(), (int) entry.getValue()[1]);
+            }
+            if (gradePoints.size() >= flushSize) {
+                userDailyStatsService.recordGradePoints(gradePoints, today);
+                gradePoints.clear();
+            }
+        }
+        userDailyStatsService.recordGradePoints(gradePoints, today);
+
+        log.info("Bulk points awarded: {} entries, {} users, total {}", awards.size(), deltas.size(), totalAmount);
+
+        return new PointsBulkAwardResponse(awards.size(), deltas.size(), totalAmount);
+    }
+
+    private void flushChunk(List<PointsHistory> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        pointsHistoryRepository.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
+    }
+}
@@ -4,6 +4,7 @@ import com.bespring.domain.points.dto.request.PointsEarnRequest;
 import com.bespring.domain.points.dto.request.PointsSpendRequest;
 import com.bespring.domain.points.dto.response.PointsSummaryResponse;
 import com.bespring.domain.points.entity.PointsHistory;
+import com.bespring.global.pagination.CursorSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -13,6 +14,11 @@ public interface PointsService {
 
     Page<PointsHistory> getPointsHistory(Long userId, PointsHistory.PointType type, Pageable pageable);
 
+    // (createdAt, id) keyset 페이지 조회 - COUNT 쿼리 없음
+    CursorSlice<PointsHistory> getPointsHistoryByCursor(Long userId, PointsHistory.PointType type, String cursor, int limit);
+
+    long countPointsHistory(Long userId, PointsHistory.PointType type);
+
     PointsHistory earnPoints(Long userId, PointsEarnRequest request);
 
     PointsHistory spendPoints(Long userId, PointsSpendRequest request);
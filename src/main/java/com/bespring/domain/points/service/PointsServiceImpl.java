@@ -5,33 +5,44 @@ import com.bespring.domain.points.dto.request.PointsSpendRequest;
 import com.bespring.domain.points.dto.response.PointsSummaryResponse;
 import com.bespring.domain.points.entity.PointsHistory;
 import com.bespring.domain.points.repository.PointsHistoryRepository;
+import com.bespring.domain.statistics.service.UserDailyStatsService;
 import com.bespring.domain.user.entity.User;
 import com.bespring.domain.user.repository.UserRepository;
 import com.bespring.global.exception.InsufficientPointsException;
 import com.bespring.global.exception.UserNotFoundException;
+import com.bespring.global.pagination.CursorSlice;
+import com.bespring.global.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class PointsServiceImpl implements PointsService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PointsHistoryRepository pointsHistoryRepository;
     private final UserRepository userRepository;
+    private final UserDailyStatsService userDailyStatsService;
 
     @Override
     @Transactional(readOnly = true)
     public PointsSummaryResponse getPointsSummary(Long userId) {
+        // 구체화된 잔액 컬럼 - PK 조회 한 번
         User user = getUserById(userId);
 
-        Integer consumptionPoints = getPointsByType(userId, PointsHistory.PointType.CONSUMPTION);
-        Integer gradePoints = getPointsByType(userId, PointsHistory.PointType.GRADE);
+        Integer consumptionPoints = user.getConsumptionBalance();
+        Integer gradePoints = user.getGradeBalance();
         String currentGrade = calculateGrade(gradePoints);
 
         return PointsSummaryResponse.of(consumptionPoints, gradePoints, currentGrade);
@@ -50,59 +61,95 @@ public class PointsServiceImpl implements PointsService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<PointsHistory> getPointsHistoryByCursor(Long userId, PointsHistory.PointType type,
+                                                               String cursor, int limit) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 여부는 한 건 더 조회해서 판단
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+
+        List<PointsHistory> rows = type != null
+                ? pointsHistoryRepository.findByUserIdAndTypeBeforeCursor(
+                        userId, type, position.getCreatedAt(), position.getId(), fetch)
+                : pointsHistoryRepository.findByUserIdBeforeCursor(
+                        userId, position.getCreatedAt(), position.getId(), fetch);
+
+        return CursorSlice.of(rows, pageSize, p -> KeysetCursor.of(p.getCreatedAt(), p.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPointsHistory(Long userId, PointsHistory.PointType type) {
+        return type != null
+                ? pointsHistoryRepository.countByUser_IdAndType(userId, type)
+                : pointsHistoryRepository.countByUser_Id(userId);
+    }
+
     @Override
     public PointsHistory earnPoints(Long userId, PointsEarnRequest request) {
-        User user = getUserById(userId);
+        // 잔액 적립 (조건부 UPDATE, 대상 행이 없으면 사용자 없음)
+        int updated = request.getType() == PointsHistory.PointType.CONSUMPTION
+                ? userRepository.creditConsumptionBalance(userId, request.getAmount())
+                : userRepository.creditGradeBalance(userId, request.getAmount());
+        if (updated == 0) {
+            throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
+        }
 
-        // 포인트 히스토리 생성
+        // 포인트 히스토리 생성 (원장은 추가만)
         PointsHistory pointsHistory = PointsHistory.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .type(request.getType())
                 .amount(request.getAmount())
                 .description(request.getDescription())
                 .relatedAlarmId(request.getRelatedAlarmId())
                 .build();
 
-        // 사용자 포인트 업데이트
-        user.addPoints(request.getAmount());
-        userRepository.save(user);
-
         PointsHistory saved = pointsHistoryRepository.save(pointsHistory);
 
-        log.info("Points earned: userId={}, amount={}, type={}, newTotal={}",
-                userId, request.getAmount(), request.getType(), user.getPoints());
+        // 등급 포인트는 일일 통계 롤업에도 반영
+        if (request.getType() == PointsHistory.PointType.GRADE) {
+            userDailyStatsService.recordGradePoints(userId, LocalDate.now(), request.getAmount());
+        }
+
+        log.info("Points earned: userId={}, amount={}, type={}",
+                userId, request.getAmount(), request.getType());
 
         return saved;
     }
 
     @Override
     public PointsHistory spendPoints(Long userId, PointsSpendRequest request) {
-        User user = getUserById(userId);
-
-        // 포인트 충분한지 확인 (소비 포인트만)
-        if (request.getType() == PointsHistory.PointType.CONSUMPTION) {
-            Integer consumptionPoints = getPointsByType(userId, PointsHistory.PointType.CONSUMPTION);
-            if (consumptionPoints < request.getAmount()) {
-                throw new InsufficientPointsException("소비 포인트가 부족합니다.");
+        // 잔액 확인과 차감을 조건부 UPDATE 한 번으로 처리 (동시 사용에도 락 없이 음수 잔액 방지)
+        int updated = request.getType() == PointsHistory.PointType.CONSUMPTION
+                ? userRepository.debitConsumptionBalance(userId, request.getAmount())
+                : userRepository.debitGradeBalance(userId, request.getAmount());
+        if (updated == 0) {
+            if (!userRepository.existsById(userId)) {
+                throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
             }
+            throw new InsufficientPointsException(request.getType() == PointsHistory.PointType.CONSUMPTION
+                    ? "소비 포인트가 부족합니다." : "등급 포인트가 부족합니다.");
         }
 
-        // 포인트 히스토리 생성 (음수로 저장)
+        // 포인트 히스토리 생성 (음수로 저장, 원장은 추가만)
         PointsHistory pointsHistory = PointsHistory.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .type(request.getType())
                 .amount(-request.getAmount())
                 .description(request.getDescription())
                 .build();
 
-        // 사용자 포인트 업데이트
-        user.subtractPoints(request.getAmount());
-        userRepository.save(user);
-
         PointsHistory saved = pointsHistoryRepository.save(pointsHistory);
 
-        log.info("Points spent: userId={}, amount={}, type={}, newTotal={}",
-                userId, request.getAmount(), request.getType(), user.getPoints());
+        // 등급 포인트는 일일 통계 롤업에도 반영
+        if (request.getType() == PointsHistory.PointType.GRADE) {
+            userDailyStatsService.recordGradePoints(userId, LocalDate.now(), -request.getAmount());
+        }
+
+        log.info("Points spent: userId={}, amount={}, type={}",
+                userId, request.getAmount(), request.getType());
 
         return saved;
     }
@@ -117,9 +164,8 @@ public class PointsServiceImpl implements PointsService {
     @Override
     @Transactional(readOnly = true)
     public Integer getPointsByType(Long userId, PointsHistory.PointType type) {
-        User user = getUserById(userId);
-        Integer points = pointsHistoryRepository.sumAmountByUserAndType(user, type);
-        return points != null ? points : 0;
+        // 원장 합산 대신 구체화된 잔액 컬럼 조회
+        return getUserById(userId).getBalance(type);
     }
 
     @Override
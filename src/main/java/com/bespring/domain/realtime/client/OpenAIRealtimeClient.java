@@ -0,0 +1,223 @@
+package com.bespring.domain.realtime.client;
+
+import com.bespring.domain.realtime.dto.SessionResponse;
+import com.bespring.global.exception.CustomException;
+import com.bespring.global.exception.ErrorCode;
+import com.bespring.global.resilience.Bulkhead;
+import com.bespring.global.resilience.CircuitBreaker;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * OpenAI Realtime sessions API 비동기 클라이언트
+ * 공유 HttpClient(커넥션 풀, HTTP/2) 위에서 sendAsync로 호출하므로 응답 대기 중 요청 스레드를 점유하지 않습니다.
+ * 호스트 동시 요청 수는 bulkhead(max-concurrent-requests)로 제한하며, 초과 시 즉시 실패(503)합니다.
+ * 전송 오류/타임아웃/5xx/429가 누적되면 서킷이 열려 readTimeout까지 기다리지 않고 즉시 실패합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OpenAIRealtimeClient {
+
+    private static final String MODEL = "gpt-4o-realtime-preview-2024-12-17";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${openai.api.key:demo_key}")
+    private String openaiApiKey;
+
+    @Value("${openai.api.url:https://api.openai.com/v1/realtime/sessions}")
+    private String openaiApiUrl;
+
+    @Value("${app.http.read-timeout-ms:10000}")
+    private long readTimeoutMs;
+
+    @Value("${app.http.openai.max-concurrent-requests:200}")
+    private int maxConcurrentRequests;
+
+    @Value("${app.http.openai.circuit-breaker.window-size:20}")
+    private int circuitWindowSize;
+
+    @Value("${app.http.openai.circuit-breaker.minimum-calls:10}")
+    private int circuitMinimumCalls;
+
+    @Value("${app.http.openai.circuit-breaker.failure-rate-threshold:0.5}")
+    private double circuitFailureRateThreshold;
+
+    @Value("${app.http.openai.circuit-breaker.open-duration-seconds:30}")
+    private long circuitOpenDurationSeconds;
+
+    @Value("${app.http.openai.circuit-breaker.half-open-permits:3}")
+    private int circuitHalfOpenPermits;
+
+    private Bulkhead bulkhead;
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    void init() {
+        bulkhead = new Bulkhead("openai", maxConcurrentRequests);
+        circuitBreaker = new CircuitBreaker("openai", circuitWindowSize, circuitMinimumCalls,
+                circuitFailureRateThreshold, Duration.ofSeconds(circuitOpenDurationSeconds),
+                circuitHalfOpenPermits, Clock.systemUTC());
+
+        meterRegistry.gauge("openai.circuit.state", circuitBreaker, cb -> cb.getState().ordinal());
+        meterRegistry.gauge("openai.bulkhead.available", bulkhead, Bulkhead::getAvailablePermits);
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public CompletableFuture<SessionResponse> createSession(String voice, String instructions) {
+        HttpRequest request;
+        try {
+            request = buildRequest(voice, instructions);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Failed to build OpenAI request", e));
+        }
+
+        if (!bulkhead.tryAcquire()) {
+            log.warn("OpenAI concurrent request limit reached ({}), rejecting session request", maxConcurrentRequests);
+            count("bulkhead_full");
+            return CompletableFuture.failedFuture(new CustomException(ErrorCode.OPENAI_TOO_MANY_REQUESTS));
+        }
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            count("circuit_open");
+            return CompletableFuture.failedFuture(new CustomException(ErrorCode.OPENAI_CIRCUIT_OPEN));
+        }
+
+        CompletableFuture<HttpResponse<String>> future;
+        try {
+            future = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            circuitBreaker.onFailure();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return future
+                .whenComplete((response, ex) -> {
+                    bulkhead.release();
+                    if (isUpstreamFailure(response, ex)) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+                })
+                .handle((response, ex) -> {
+                    if (ex != null) {
+                        throw toRestClientException(ex);
+                    }
+                    return toSessionResponse(response);
+                });
+    }
+
+    // 업스트림 장애로 간주하는 결과: 전송 오류/타임아웃, 5xx, 429 (그 외 4xx는 요청 문제이므로 제외)
+    private boolean isUpstreamFailure(HttpResponse<String> response, Throwable ex) {
+        if (ex != null) {
+            return true;
+        }
+        int status = response.statusCode();
+        return status >= 500 || status == 429;
+    }
+
+    private void count(String reason) {
+        meterRegistry.counter("openai.requests.rejected", "reason", reason).increment();
+    }
+
+    private HttpRequest buildRequest(String voice, String instructions) throws IOException {
+        // OpenAI Realtime API 요청 구성
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", MODEL);
+
+        // Realtime API supports only ["text"] or ["audio","text"]
+        requestBody.put("modalities", List.of("audio", "text"));
+
+        requestBody.put("voice", voice);
+        requestBody.put("instructions", instructions);
+
+        // Note: Realtime sessions API does not accept arbitrary 'metadata' field; omit to avoid 400
+
+        String body = objectMapper.writeValueAsString(requestBody);
+        log.info("Calling OpenAI Realtime sessions API: {}", openaiApiUrl);
+        log.debug("OpenAI request body: {}", body);
+
+        return HttpRequest.newBuilder(URI.create(openaiApiUrl))
+                .timeout(Duration.ofMillis(readTimeoutMs))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + openaiApiKey)
+                .header("OpenAI-Beta", "realtime=v1")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private SessionResponse toSessionResponse(HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status < 200 || status >= 300) {
+            HttpStatus httpStatus = HttpStatus.valueOf(status);
+            byte[] body = response.body() == null ? new byte[0] : response.body().getBytes(StandardCharsets.UTF_8);
+            if (httpStatus.is4xxClientError()) {
+                throw HttpClientErrorException.create(httpStatus, httpStatus.getReasonPhrase(),
+                        HttpHeaders.EMPTY, body, StandardCharsets.UTF_8);
+            }
+            throw HttpServerErrorException.create(httpStatus, httpStatus.getReasonPhrase(),
+                    HttpHeaders.EMPTY, body, StandardCharsets.UTF_8);
+        }
+
+        // 응답 파싱 (체크 예외는 런타임으로 래핑)
+        JsonNode responseJson;
+        try {
+            responseJson = objectMapper.readTree(response.body());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse OpenAI response", e);
+        }
+
+        String ephemeralKey = responseJson.path("client_secret").path("value").asText();
+        String sessionId = responseJson.path("id").asText();
+        Long expiresIn = responseJson.path("client_secret").path("expires_at").asLong();
+
+        return new SessionResponse(ephemeralKey, sessionId, expiresIn);
+    }
+
+    // 전송 계층 오류는 기존 RestTemplate과 동일하게 ResourceAccessException으로 변환 (전역 예외 처리기에서 503)
+    private RuntimeException toRestClientException(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof IOException ioException) {
+            return new ResourceAccessException("I/O error on POST request for \"" + openaiApiUrl + "\": "
+                    + ioException.getMessage(), ioException);
+        }
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new CompletionException(cause);
+    }
+}
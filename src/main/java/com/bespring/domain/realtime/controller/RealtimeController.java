@@ -18,6 +18,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @Tag(name = "OpenAI Realtime API", description = "OpenAI Realtime API 세션 관리")
 @Slf4j
 @RestController
@@ -30,7 +32,7 @@ public class RealtimeController {
 
     @Operation(
             summary = "OpenAI Realtime API 세션 생성",
-            description = "음성 통화를 위한 OpenAI ephemeral key를 발급합니다."
+            description = "음성 통화를 위한 OpenAI ephemeral key를 발급합니다. OpenAI 응답을 비동기로 기다리므로 요청 스레드를 점유하지 않습니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -39,7 +41,7 @@ public class RealtimeController {
             )
     })
     @PostMapping("/session")
-    public ResponseEntity<ApiResponse<SessionResponse>> createSession(
+    public CompletableFuture<ResponseEntity<ApiResponse<SessionResponse>>> createSession(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @Parameter(description = "알람 ID") @RequestParam Long alarmId,
             @Parameter(description = "현재 스누즈 횟수 (선택, 0-3)") @RequestParam(required = false) Integer snoozeCount) {
@@ -47,8 +49,7 @@ public class RealtimeController {
         Long userId = userPrincipal.getUserId();
         log.info("Creating OpenAI realtime session for user: {}, alarmId: {}, snoozeCount: {}", userId, alarmId, snoozeCount);
 
-        SessionResponse sessionResponse = realtimeService.createSession(userId, alarmId, snoozeCount);
-
-        return ResponseEntity.status(201).body(ApiResponse.success(sessionResponse));
+        return realtimeService.createSessionAsync(userId, alarmId, snoozeCount)
+                .thenApply(sessionResponse -> ResponseEntity.status(201).body(ApiResponse.success(sessionResponse)));
     }
 }
@@ -0,0 +1,27 @@
+package com.bespring.domain.realtime.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알람 시각 전에 미리 생성해 Redis에 보관하는 Realtime 세션
+ * fingerprint는 생성 당시 음성/지시사항 값으로, 알람이 바뀐 뒤의 세션이 제공되지 않도록 확인합니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PrewarmedSession {
+
+    private Long userId;
+    private Long alarmId;
+    private String fingerprint;
+    private String ephemeralKey;
+    private String sessionId;
+    // client_secret.expires_at (epoch seconds)
+    private Long expiresAt;
+
+    public SessionResponse toSessionResponse() {
+        return new SessionResponse(ephemeralKey, sessionId, expiresAt);
+    }
+}
@@ -1,117 +1,117 @@
 package com.bespring.domain.realtime.service;
 
-import com.bespring.domain.alarm.entity.UserAlarm;
-import com.bespring.domain.alarm.service.UserAlarmService;
-import com.bespring.domain.call.service.CallLogService;
+import com.bespring.domain.alarm.dto.AlarmSnapshot;
+import com.bespring.domain.alarm.service.AlarmSnapshotCache;
+import com.bespring.domain.call.service.CallSnoozeStateCache;
+import com.bespring.domain.realtime.client.OpenAIRealtimeClient;
 import com.bespring.domain.realtime.dto.SessionResponse;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RealtimeService {
 
-    private final UserAlarmService userAlarmService;
-    private final CallLogService callLogService;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final AlarmSnapshotCache alarmSnapshotCache;
+    private final CallSnoozeStateCache callSnoozeStateCache;
+    private final OpenAIRealtimeClient openAIRealtimeClient;
+    private final RealtimeSessionPool sessionPool;
+    private final MeterRegistry meterRegistry;
 
-    @Value("${openai.api.key:demo_key}")
-    private String openaiApiKey;
+    private final Map<String, CompletableFuture<SessionResponse>> inFlight = new ConcurrentHashMap<>();
 
-    @Value("${openai.api.url:https://api.openai.com/v1/realtime/sessions}")
-    private String openaiApiUrl;
-
-    // alarmId와 (선택) snoozeCount를 받아서 OpenAI API 호출
-    public SessionResponse createSession(Long userId, Long alarmId, Integer snoozeCount) {
-        // 1. 알람 정보 조회
-        UserAlarm alarm = userAlarmService.getAlarm(userId, alarmId);
+    // alarmId와 (선택) snoozeCount를 받아서 OpenAI API 호출 (응답 대기 중 호출 스레드를 점유하지 않음)
+    public CompletableFuture<SessionResponse> createSessionAsync(Long userId, Long alarmId, Integer snoozeCount) {
+        // 1. 알람 정보 조회 (L1/L2 캐시 우선, 미스 시 DB)
+        AlarmSnapshot alarm = alarmSnapshotCache.get(userId, alarmId);
 
         // 2. 스누즈 횟수 결정: 요청값 우선, 없으면 진행 중 통화 기준으로 조회
         int resolvedSnooze = 0;
         if (snoozeCount != null) {
             // clamp to [0,3]
             resolvedSnooze = Math.max(0, Math.min(3, snoozeCount));
+            if (resolvedSnooze > 0) {
+                callSnoozeStateCache.recordSnooze(userId, resolvedSnooze);
+            }
         } else {
             resolvedSnooze = getSnoozeCountForCurrentCall(userId);
         }
 
-        // 3. 스누즈 정보가 포함된 instructions 생성
-        String finalInstructions = alarm.getInstructionsWithSnooze(resolvedSnooze);
+        // 3. 동일 (userId, alarmId, snooze) 요청이 진행 중이면 같은 결과를 공유 (클라이언트 재시도 중복 호출 방지)
+        String key = userId + ":" + alarmId + ":" + resolvedSnooze;
+        CompletableFuture<SessionResponse> created = new CompletableFuture<>();
+        CompletableFuture<SessionResponse> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            meterRegistry.counter("realtime.session.coalesced").increment();
+            return existing;
+        }
 
-        // 4. OpenAI API 호출 (에러는 전역 예외 처리기로 위임)
-        return callOpenAIRealtimeAPI(alarm.getVoice().getApiValue(), finalInstructions, alarmId);
+        try {
+            resolveSession(alarm, resolvedSnooze).whenComplete((session, ex) -> {
+                inFlight.remove(key, created);
+                if (ex != null) {
+                    created.completeExceptionally(unwrap(ex));
+                } else {
+                    created.complete(session);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
     }
 
-    private SessionResponse callOpenAIRealtimeAPI(String voice, String instructions, Long alarmId) {
-        // OpenAI Realtime API 요청 구성
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("model", "gpt-4o-realtime-preview-2024-12-17");
-
-        // Realtime API supports only ["text"] or ["audio","text"]
-        requestBody.put("modalities", java.util.List.of("audio", "text"));
-
-        requestBody.put("voice", voice);
-        requestBody.put("instructions", instructions);
-
-        // Note: Realtime sessions API does not accept arbitrary 'metadata' field; omit to avoid 400
-
-        // HTTP 헤더 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(openaiApiKey);
-        headers.add("OpenAI-Beta", "realtime=v1");
-
-        // Debug: log request
-        try {
-            log.info("Calling OpenAI Realtime sessions API: {}", openaiApiUrl);
-            log.info("OpenAI request body: {}", objectMapper.writeValueAsString(requestBody));
-        } catch (Exception ignore) {
-            log.warn("Failed to serialize OpenAI request body for logging");
+    private CompletableFuture<SessionResponse> resolveSession(AlarmSnapshot alarm, int resolvedSnooze) {
+        // 첫 울림(스누즈 0)은 미리 생성된 세션이 있으면 바로 반환
+        if (resolvedSnooze == 0) {
+            Optional<SessionResponse> prewarmed = sessionPool.claim(alarm);
+            if (prewarmed.isPresent()) {
+                return CompletableFuture.completedFuture(prewarmed.get());
+            }
         }
 
-        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
+        // 스누즈 정보가 포함된 instructions 생성
+        String finalInstructions = alarm.getInstructionsWithSnooze(resolvedSnooze);
 
-        // OpenAI API 호출
-        ResponseEntity<String> response = restTemplate.exchange(
-                openaiApiUrl,
-                HttpMethod.POST,
-                requestEntity,
-                String.class
-        );
+        // OpenAI API 호출 (에러는 전역 예외 처리기로 위임)
+        return openAIRealtimeClient.createSession(alarm.getVoice().getApiValue(), finalInstructions)
+                .thenApply(session -> {
+                    log.info("Successfully created OpenAI session for alarm {}: sessionId={}",
+                            alarm.getAlarmId(), session.getSessionId());
+                    return session;
+                });
+    }
+
+    private Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
 
-        // 응답 파싱 (체크 예외는 런타임으로 래핑)
-        JsonNode responseJson;
+    // 동기 호출이 필요한 경우용 (비동기 결과를 기다린 뒤 원래 예외를 그대로 전파)
+    public SessionResponse createSession(Long userId, Long alarmId, Integer snoozeCount) {
         try {
-            responseJson = objectMapper.readTree(response.getBody());
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to parse OpenAI response", e);
+            return createSessionAsync(userId, alarmId, snoozeCount).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
-
-        String ephemeralKey = responseJson.path("client_secret").path("value").asText();
-        String sessionId = responseJson.path("id").asText();
-        Long expiresIn = responseJson.path("client_secret").path("expires_at").asLong();
-
-        log.info("Successfully created OpenAI session for alarm {}: sessionId={}", alarmId, sessionId);
-
-        return new SessionResponse(ephemeralKey, sessionId, expiresIn);
     }
 
     private int getSnoozeCountForCurrentCall(Long userId) {
         try {
-            // 현재 진행 중인 통화가 있는지 확인하고 스누즈 횟수 반환
-            // (CallLogService에 해당 메서드가 있다고 가정)
-            return callLogService.getCurrentCallSnoozeCount(userId);
+            // 현재 진행 중인 통화의 스누즈 횟수 반환 (통화 시작/종료 시 무효화되는 캐시)
+            return callSnoozeStateCache.getCurrentSnoozeCount(userId);
         } catch (Exception e) {
             log.warn("Failed to get snooze count for user {}: {}", userId, e.getMessage());
             return 0;
@@ -0,0 +1,190 @@
+package com.bespring.domain.realtime.service;
+
+import com.bespring.domain.alarm.dto.AlarmSnapshot;
+import com.bespring.domain.alarm.event.AlarmChangedEvent;
+import com.bespring.domain.realtime.dto.PrewarmedSession;
+import com.bespring.domain.realtime.dto.SessionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사전 생성된 Realtime 세션 풀 (Redis)
+ * 키: realtime:prewarm:{alarmId} (TTL = expires_at - 안전 여유)
+ * 만료 인덱스(realtime:prewarm:expiry, score = expires_at)로 사용되지 못하고 만료된 세션을 집계합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RealtimeSessionPool {
+
+    private static final String KEY_PREFIX = "realtime:prewarm:";
+    private static final String EXPIRY_INDEX_KEY = "realtime:prewarm:expiry";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.realtime.prewarm.enabled:false}")
+    private boolean enabled;
+
+    // 클라이언트가 연결을 맺을 시간을 남기기 위해 만료 직전 세션은 제공하지 않음
+    @Value("${app.realtime.prewarm.expiry-margin-seconds:5}")
+    private long expiryMarginSeconds;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean contains(Long alarmId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(alarmId)));
+    }
+
+    // 세션 보관 (이미 다른 노드가 보관한 경우 false)
+    public boolean park(AlarmSnapshot alarm, SessionResponse session) {
+        long remainingSeconds = session.getExpiresInSeconds() - Instant.now().getEpochSecond() - expiryMarginSeconds;
+        if (remainingSeconds <= 0) {
+            count("realtime.prewarm.sessions", "outcome", "expired_on_arrival");
+            return false;
+        }
+
+        PrewarmedSession prewarmed = new PrewarmedSession(
+                alarm.getUserId(),
+                alarm.getAlarmId(),
+                fingerprint(alarm),
+                session.getEphemeralKey(),
+                session.getSessionId(),
+                session.getExpiresInSeconds()
+        );
+
+        try {
+            Boolean stored = redisTemplate.opsForValue().setIfAbsent(
+                    key(alarm.getAlarmId()),
+                    objectMapper.writeValueAsString(prewarmed),
+                    Duration.ofSeconds(remainingSeconds)
+            );
+            if (!Boolean.TRUE.equals(stored)) {
+                count("realtime.prewarm.sessions", "outcome", "wasted");
+                return false;
+            }
+            redisTemplate.opsForZSet().add(EXPIRY_INDEX_KEY, String.valueOf(alarm.getAlarmId()),
+                    session.getExpiresInSeconds() - expiryMarginSeconds);
+            count("realtime.prewarm.sessions", "outcome", "created");
+            return true;
+        } catch (Exception e) {
+            log.warn("Redis is not available, prewarmed session for alarm {} discarded: {}",
+                    alarm.getAlarmId(), e.getMessage());
+            return false;
+        }
+    }
+
+    // 풀에서 세션을 원자적으로 꺼냄 (GETDEL). 알람이 바뀌었거나 만료 직전이면 사용하지 않음
+    public Optional<SessionResponse> claim(AlarmSnapshot alarm) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        PrewarmedSession prewarmed = null;
+        try {
+            String json = redisTemplate.opsForValue().getAndDelete(key(alarm.getAlarmId()));
+            if (json != null) {
+                redisTemplate.opsForZSet().remove(EXPIRY_INDEX_KEY, String.valueOf(alarm.getAlarmId()));
+                prewarmed = objectMapper.readValue(json, PrewarmedSession.class);
+            }
+        } catch (Exception e) {
+            log.warn("Redis is not available, prewarmed session lookup skipped: {}", e.getMessage());
+        }
+
+        if (prewarmed == null) {
+            count("realtime.prewarm.requests", "result", "miss");
+            return Optional.empty();
+        }
+
+        boolean usable = Objects.equals(prewarmed.getUserId(), alarm.getUserId())
+                && Objects.equals(prewarmed.getFingerprint(), fingerprint(alarm))
+                && prewarmed.getExpiresAt() - expiryMarginSeconds > Instant.now().getEpochSecond();
+        if (!usable) {
+            count("realtime.prewarm.sessions", "outcome", "wasted");
+            count("realtime.prewarm.requests", "result", "miss");
+            return Optional.empty();
+        }
+
+        count("realtime.prewarm.requests", "result", "hit");
+        log.info("Served prewarmed realtime session for alarm {}: sessionId={}",
+                alarm.getAlarmId(), prewarmed.getSessionId());
+        return Optional.of(prewarmed.toSessionResponse());
+    }
+
+    // 사용되지 못하고 만료된 세션 집계 (ZREM에 성공한 노드만 카운트하므로 중복 집계되지 않음)
+    public void collectExpired() {
+        try {
+            long now = Instant.now().getEpochSecond();
+            Set<String> expired = redisTemplate.opsForZSet().rangeByScore(EXPIRY_INDEX_KEY, 0, now);
+            if (expired == null) {
+                return;
+            }
+            for (String alarmId : expired) {
+                Long removed = redisTemplate.opsForZSet().remove(EXPIRY_INDEX_KEY, alarmId);
+                if (removed != null && removed > 0) {
+                    count("realtime.prewarm.sessions", "outcome", "wasted");
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Redis is not available, prewarmed session expiry scan skipped: {}", e.getMessage());
+        }
+    }
+
+    // 알람 변경/비활성화 시 보관 중인 세션 폐기
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAlarmChanged(AlarmChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Boolean deleted = redisTemplate.delete(key(event.getAlarmId()));
+            redisTemplate.opsForZSet().remove(EXPIRY_INDEX_KEY, String.valueOf(event.getAlarmId()));
+            if (Boolean.TRUE.equals(deleted)) {
+                count("realtime.prewarm.sessions", "outcome", "wasted");
+            }
+        } catch (Exception e) {
+            log.warn("Redis is not available, prewarmed session invalidation skipped: {}", e.getMessage());
+        }
+    }
+
+    // 다른 노드/재시작 이후에도 같은 값이 나오도록 enum 이름과 지시문 문자열로 해시
+    static String fingerprint(AlarmSnapshot alarm) {
+        String voice = alarm.getVoice() != null ? alarm.getVoice().name() : "";
+        String instructions = Objects.toString(alarm.getInstructions(), "");
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest((voice + "\n" + instructions).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private String key(Long alarmId) {
+        return KEY_PREFIX + alarmId;
+    }
+
+    private void count(String name, String tagKey, String tagValue) {
+        meterRegistry.counter(name, tagKey, tagValue).increment();
+    }
+}
@@ -0,0 +1,100 @@
+package com.bespring.domain.realtime.service;
+
+import com.bespring.domain.alarm.dto.AlarmSnapshot;
+import com.bespring.domain.alarm.entity.UserAlarm;
+import com.bespring.domain.alarm.event.AlarmDispatchEvent;
+import com.bespring.domain.alarm.repository.UserAlarmRepository;
+import com.bespring.domain.realtime.client.OpenAIRealtimeClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 곧 울릴 알람의 Realtime 세션을 lead-time 전에 미리 생성하여 RealtimeSessionPool에 보관
+ * 여러 노드가 동시에 실행되어도 알람당 한 번만 생성하도록 Redis 락(SET NX)을 사용합니다.
+ * 알람 디스패처가 활성화되어 있으면 DB 폴링 대신 AlarmDispatchEvent를 받아 생성합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.realtime.prewarm.enabled", havingValue = "true")
+public class RealtimeSessionPrewarmer {
+
+    private static final String LOCK_PREFIX = "realtime:prewarm:lock:";
+
+    private final UserAlarmRepository userAlarmRepository;
+    private final OpenAIRealtimeClient openAIRealtimeClient;
+    private final RealtimeSessionPool sessionPool;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // ephemeral key 수명이 짧으므로 알람 직전에만 생성
+    @Value("${app.realtime.prewarm.lead-time-seconds:30}")
+    private long leadTimeSeconds;
+
+    @Value("${app.alarm.dispatch.enabled:false}")
+    private boolean dispatchEnabled;
+
+    @Scheduled(fixedDelayString = "${app.realtime.prewarm.interval-ms:5000}")
+    public void prewarmUpcomingAlarms() {
+        sessionPool.collectExpired();
+        if (dispatchEnabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<UserAlarm> upcoming = userAlarmRepository.findActiveAlarmsBetween(now, now.plusSeconds(leadTimeSeconds));
+
+        for (UserAlarm alarm : upcoming) {
+            try {
+                prewarm(AlarmSnapshot.of(alarm.getUser().getId(), alarm));
+            } catch (Exception e) {
+                log.warn("Failed to prewarm realtime session for alarm {}: {}", alarm.getId(), e.getMessage());
+            }
+        }
+    }
+
+    @EventListener
+    public void onAlarmDispatch(AlarmDispatchEvent event) {
+        AlarmSnapshot alarm = event.getAlarm();
+        // 장애 복구로 늦게 발행된 지난 알람은 생성하지 않음
+        if (!alarm.getAlarmTime().isAfter(LocalDateTime.now())) {
+            return;
+        }
+        try {
+            prewarm(alarm);
+        } catch (Exception e) {
+            log.warn("Failed to prewarm realtime session for alarm {}: {}", alarm.getAlarmId(), e.getMessage());
+        }
+    }
+
+    private void prewarm(AlarmSnapshot alarm) {
+        if (sessionPool.contains(alarm.getAlarmId()) || !tryLock(alarm.getAlarmId())) {
+            return;
+        }
+
+        openAIRealtimeClient.createSession(alarm.getVoice().getApiValue(), alarm.getInstructionsWithSnooze(0))
+                .whenComplete((session, ex) -> {
+                    if (ex != null) {
+                        log.warn("Prewarm session creation failed for alarm {}: {}", alarm.getAlarmId(), ex.getMessage());
+                        return;
+                    }
+                    sessionPool.park(alarm, session);
+                });
+    }
+
+    // 알람당 lead-time 동안 한 노드만 생성 시도
+    private boolean tryLock(Long alarmId) {
+        Boolean locked = redisTemplate.opsForValue()
+                .setIfAbsent(LOCK_PREFIX + alarmId, "1", Duration.ofSeconds(leadTimeSeconds));
+        return Boolean.TRUE.equals(locked);
+    }
+}
@@ -53,7 +53,7 @@ public class StatisticsController {
 
     @Operation(
             summary = "기간별 통계 조회",
-            description = "지정한 기간 동안의 알람 통계를 조회합니다."
+            description = "지정한 기간 동안의 알람 통계를 조회합니다. 조회 기간은 최대 366일입니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -0,0 +1,28 @@
+package com.bespring.domain.statistics.dto;
+
+/**
+ * 통계 개요용 일일 롤업 집계 결과 (단일 쿼리 projection)
+ * SUM 결과는 롤업 행이 없으면 null일 수 있습니다.
+ */
+public interface StatsOverviewAggregate {
+
+    Long getTotalCount();
+
+    Long getSuccessCount();
+
+    Long getRecentCount();
+
+    Long getRecentSuccessCount();
+
+    Long getMonthlyCount();
+
+    Long getMonthlySuccessCount();
+
+    Long getWeeklyCount();
+
+    Long getWeeklySuccessCount();
+
+    Long getWakeMinuteSum();
+
+    Long getGradePoints();
+}
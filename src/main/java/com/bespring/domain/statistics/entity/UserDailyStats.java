@@ -0,0 +1,71 @@
+package com.bespring.domain.statistics.entity;
+
+import com.bespring.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 일일 통계 롤업
+ * 통화 종료/기록 생성, 등급 포인트 변동 시 같은 트랜잭션에서 증분 갱신됩니다.
+ */
+@Entity
+@Table(name = "user_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_daily_stats_user_date", columnNames = {"user_id", "stat_date"}))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "total_count", nullable = false)
+    @Builder.Default
+    private Integer totalCount = 0;
+
+    @Column(name = "success_count", nullable = false)
+    @Builder.Default
+    private Integer successCount = 0;
+
+    @Column(name = "fail_no_talk_count", nullable = false)
+    @Builder.Default
+    private Integer failNoTalkCount = 0;
+
+    @Column(name = "fail_snooze_count", nullable = false)
+    @Builder.Default
+    private Integer failSnoozeCount = 0;
+
+    @Column(name = "snooze_sum", nullable = false)
+    @Builder.Default
+    private Integer snoozeSum = 0;
+
+    // 성공한 통화의 시작 시각(자정 기준 분) 합계 - 평균 기상시간 계산용
+    @Column(name = "wake_minute_sum", nullable = false)
+    @Builder.Default
+    private Long wakeMinuteSum = 0L;
+
+    @Column(name = "grade_points", nullable = false)
+    @Builder.Default
+    private Integer gradePoints = 0;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public int getFailCount() {
+        return totalCount - successCount;
+    }
+}
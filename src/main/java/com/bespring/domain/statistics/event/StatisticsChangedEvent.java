@@ -0,0 +1,24 @@
+package com.bespring.domain.statistics.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자 통계에 영향을 주는 변경 이벤트 (통계 캐시 무효화용)
+ * statDate는 변경이 반영된 일일 롤업 날짜입니다. 일괄 지급처럼 여러 사용자가 함께 바뀌면 한 이벤트에 담습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StatisticsChangedEvent {
+
+    private final Collection<Long> userIds;
+    private final LocalDate statDate;
+
+    public StatisticsChangedEvent(Long userId, LocalDate statDate) {
+        this(List.of(userId), statDate);
+    }
+}
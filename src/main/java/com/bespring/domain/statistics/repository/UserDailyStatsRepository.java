@@ -0,0 +1,60 @@
+package com.bespring.domain.statistics.repository;
+
+import com.bespring.domain.statistics.dto.StatsOverviewAggregate;
+import com.bespring.domain.statistics.entity.UserDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface UserDailyStatsRepository extends JpaRepository<UserDailyStats, Long> {
+
+    // 기간 내 일별 롤업 조회 (user_id, stat_date 유니크 인덱스 범위 스캔)
+    List<UserDailyStats> findByUser_IdAndStatDateBetweenOrderByStatDateAsc(Long userId, LocalDate startDate, LocalDate endDate);
+
+    // 통화 결과 카운터 증분 갱신 (해당 날짜 행이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE UserDailyStats s SET s.totalCount = s.totalCount + 1, " +
+           "s.successCount = s.successCount + :success, " +
+           "s.failNoTalkCount = s.failNoTalkCount + :failNoTalk, " +
+           "s.failSnoozeCount = s.failSnoozeCount + :failSnooze, " +
+           "s.snoozeSum = s.snoozeSum + :snoozeCount, " +
+           "s.wakeMinuteSum = s.wakeMinuteSum + :wakeMinutes " +
+           "WHERE s.user.id = :userId AND s.statDate = :statDate")
+    int incrementCallCounters(@Param("userId") Long userId, @Param("statDate") LocalDate statDate,
+                              @Param("success") int success, @Param("failNoTalk") int failNoTalk,
+                              @Param("failSnooze") int failSnooze, @Param("snoozeCount") int snoozeCount,
+                              @Param("wakeMinutes") long wakeMinutes);
+
+    // 등급 포인트 증분 갱신 (해당 날짜 행이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE UserDailyStats s SET s.gradePoints = s.gradePoints + :points " +
+           "WHERE s.user.id = :userId AND s.statDate = :statDate")
+    int incrementGradePoints(@Param("userId") Long userId, @Param("statDate") LocalDate statDate,
+                             @Param("points") int points);
+
+    // 통계 개요 카운터를 롤업에서 한 번에 집계 (전체/최근 30일/이번 달/최근 7일)
+    @Query("SELECT SUM(s.totalCount) AS totalCount, SUM(s.successCount) AS successCount, " +
+           "SUM(CASE WHEN s.statDate >= :recentStart THEN s.totalCount ELSE 0 END) AS recentCount, " +
+           "SUM(CASE WHEN s.statDate >= :recentStart THEN s.successCount ELSE 0 END) AS recentSuccessCount, " +
+           "SUM(CASE WHEN s.statDate >= :monthStart THEN s.totalCount ELSE 0 END) AS monthlyCount, " +
+           "SUM(CASE WHEN s.statDate >= :monthStart THEN s.successCount ELSE 0 END) AS monthlySuccessCount, " +
+           "SUM(CASE WHEN s.statDate >= :weekStart THEN s.totalCount ELSE 0 END) AS weeklyCount, " +
+           "SUM(CASE WHEN s.statDate >= :weekStart THEN s.successCount ELSE 0 END) AS weeklySuccessCount, " +
+           "SUM(s.wakeMinuteSum) AS wakeMinuteSum, SUM(s.gradePoints) AS gradePoints " +
+           "FROM UserDailyStats s WHERE s.user.id = :userId")
+    StatsOverviewAggregate aggregateOverviewByUserId(
+            @Param("userId") Long userId, @Param("recentStart") LocalDate recentStart,
+            @Param("monthStart") LocalDate monthStart, @Param("weekStart") LocalDate weekStart
+    );
+
+    // 백필 시 사용자 롤업 초기화
+    @Modifying
+    @Query("DELETE FROM UserDailyStats s WHERE s.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,231 @@
+package com.bespring.domain.statistics.service;
+
+import com.bespring.domain.statistics.event.StatisticsChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 통계 응답 Redis read-through 캐시
+ * 키: stats:{userId}:overview | stats:{userId}:period:{start}:{end} | stats:{userId}:calendar:{yyyy-MM}
+ *     | stats:{userId}:missions:{start}:{end}:{bucket}
+ * 사용자별 키 목록(stats:{userId}:keys)을 유지하여 변경된 날짜에 해당하는 항목만 무효화합니다.
+ * 변경 시 사용자별 버전(stats:{userId}:version)을 올리고, 조회 전에 읽은 버전이 그대로일 때만 저장하여
+ * 로드 도중 커밋된 변경 이전 값이 무효화 이후에 저장되지 않도록 합니다.
+ * (사용자 ID를 hash tag로 감싸 클러스터 모드에서도 사용자별 키가 같은 슬롯에 있도록 함)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsCache {
+
+    private static final String KEY_PREFIX = "stats:";
+    private static final String OVERVIEW = "overview";
+    private static final String PERIOD = "period";
+    private static final String CALENDAR = "calendar";
+    private static final String MISSIONS = "missions";
+    private static final String NO_VERSION = "0";
+
+    // 조회 전에 읽은 버전이 그대로일 때만 항목 저장 및 키 목록 등록 (저장 여부 반환)
+    private static final RedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) or '0' " +
+            "if v ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3]) " +
+            "redis.call('SADD', KEYS[3], ARGV[4]) " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[5]) " +
+            "return 1", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.statistics.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.statistics.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // 지난 달 캘린더는 변경되지 않으므로 훨씬 길게 보관
+    @Value("${app.statistics.cache.past-month-ttl-seconds:604800}")
+    private long pastMonthTtlSeconds;
+
+    public <T> T getOverview(Long userId, Class<T> type, Supplier<T> loader) {
+        return getOrLoad(userId, OVERVIEW, OVERVIEW, type, ttlSeconds, loader);
+    }
+
+    public <T> T getPeriod(Long userId, LocalDate startDate, LocalDate endDate, Class<T> type, Supplier<T> loader) {
+        return getOrLoad(userId, PERIOD, PERIOD + ":" + startDate + ":" + endDate, type, ttlSeconds, loader);
+    }
+
+    public <T> T getCalendar(Long userId, YearMonth yearMonth, Class<T> type, Supplier<T> loader) {
+        long ttl = yearMonth.isBefore(YearMonth.now()) ? pastMonthTtlSeconds : ttlSeconds;
+        return getOrLoad(userId, CALENDAR, CALENDAR + ":" + yearMonth, type, ttl, loader);
+    }
+
+    public <T> T getMissions(Long userId, LocalDate startDate, LocalDate endDate, String bucket,
+                             Class<T> type, Supplier<T> loader) {
+        return getOrLoad(userId, MISSIONS, MISSIONS + ":" + startDate + ":" + endDate + ":" + bucket, type, ttlSeconds, loader);
+    }
+
+    // 통계 변경 트랜잭션이 커밋된 뒤 해당 사용자/날짜에 영향을 받는 항목만 삭제
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatisticsChanged(StatisticsChangedEvent event) {
+        if (enabled) {
+            invalidate(event.getUserIds(), event.getStatDate());
+        }
+    }
+
+    // 사용자 수와 관계없이 파이프라인 두 번으로 무효화 (일괄 지급 시 사용자별 왕복 방지)
+    @SuppressWarnings("unchecked")
+    public void invalidate(Collection<Long> userIds, LocalDate statDate) {
+        List<Long> users = List.copyOf(userIds);
+        try {
+            // 진행 중인 로드가 변경 이전 값을 저장하지 못하도록 먼저 버전을 올리고 키 목록을 읽음
+            List<Object> results = pipelined(operations -> users.forEach(userId -> {
+                String versionKey = versionKey(userId);
+                operations.opsForValue().increment(versionKey);
+                operations.expire(versionKey, indexTtlSeconds(), TimeUnit.SECONDS);
+                operations.opsForSet().members(indexKey(userId));
+            }));
+
+            Map<Long, List<String>> staleSuffixes = new LinkedHashMap<>();
+            for (int i = 0; i < users.size(); i++) {
+                Set<String> suffixes = (Set<String>) results.get(i * 3 + 2);
+                if (suffixes == null) {
+                    continue;
+                }
+                for (String suffix : suffixes) {
+                    if (isAffected(suffix, statDate)) {
+                        staleSuffixes.computeIfAbsent(users.get(i), id -> new ArrayList<>()).add(suffix);
+                    }
+                }
+            }
+            if (staleSuffixes.isEmpty()) {
+                return;
+            }
+
+            // 클러스터 모드에서 슬롯이 다르므로 사용자별로 삭제
+            pipelined(operations -> staleSuffixes.forEach((userId, suffixes) -> {
+                operations.delete(suffixes.stream().map(suffix -> entryKey(userId, suffix)).toList());
+                operations.opsForSet().remove(indexKey(userId), suffixes.toArray());
+            }));
+
+            log.debug("Invalidated statistics cache entries for {} of {} users (date={})",
+                    staleSuffixes.size(), users.size(), statDate);
+        } catch (Exception e) {
+            log.warn("Redis is not available, statistics cache invalidation skipped: {}", e.getMessage());
+        }
+    }
+
+    private <T> T getOrLoad(Long userId, String view, String suffix, Class<T> type, long ttl, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String key = entryKey(userId, suffix);
+        String versionKey = versionKey(userId);
+        // 버전을 읽지 못하면 저장하지 않음
+        String version = null;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(key, versionKey));
+            if (values != null) {
+                String cached = values.get(0);
+                if (cached != null) {
+                    count(view, "hit");
+                    return objectMapper.readValue(cached, type);
+                }
+                version = Objects.requireNonNullElse(values.get(1), NO_VERSION);
+            }
+        } catch (Exception e) {
+            log.warn("Redis is not available, statistics cache lookup skipped: {}", e.getMessage());
+        }
+
+        count(view, "miss");
+        T value = loader.get();
+
+        if (version != null) {
+            try {
+                Long stored = redisTemplate.execute(STORE_SCRIPT, List.of(versionKey, key, indexKey(userId)),
+                        version, objectMapper.writeValueAsString(value), String.valueOf(ttl), suffix,
+                        String.valueOf(indexTtlSeconds()));
+                if (stored == null || stored == 0) {
+                    count(view, "stale");
+                }
+            } catch (Exception e) {
+                log.warn("Redis is not available, statistics cache store skipped: {}", e.getMessage());
+            }
+        }
+
+        return value;
+    }
+
+    private boolean isAffected(String suffix, LocalDate statDate) {
+        if (suffix.equals(OVERVIEW)) {
+            return true;
+        }
+
+        String[] parts = suffix.split(":");
+        if ((parts[0].equals(PERIOD) && parts.length == 3) || (parts[0].equals(MISSIONS) && parts.length == 4)) {
+            return !statDate.isBefore(LocalDate.parse(parts[1])) && !statDate.isAfter(LocalDate.parse(parts[2]));
+        }
+        if (parts[0].equals(CALENDAR) && parts.length == 2) {
+            return YearMonth.parse(parts[1]).equals(YearMonth.from(statDate));
+        }
+        return true;
+    }
+
+    private List<Object> pipelined(Consumer<RedisOperations<String, String>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
+    private void count(String view, String result) {
+        meterRegistry.counter("statistics.cache.requests", "view", view, "result", result).increment();
+    }
+
+    // 키 목록과 버전은 모든 항목보다 오래 유지되어야 함
+    private long indexTtlSeconds() {
+        return Math.max(ttlSeconds, pastMonthTtlSeconds);
+    }
+
+    private String entryKey(Long userId, String suffix) {
+        return KEY_PREFIX + "{" + userId + "}:" + suffix;
+    }
+
+    private String indexKey(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}:keys";
+    }
+
+    private String versionKey(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}:version";
+    }
+}
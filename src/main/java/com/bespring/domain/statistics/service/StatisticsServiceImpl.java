@@ -1,108 +1,134 @@
 package com.bespring.domain.statistics.service;
 
-import com.bespring.domain.call.service.CallLogService;
 import com.bespring.domain.mission.service.MissionService;
-import com.bespring.domain.points.entity.PointsHistory;
-import com.bespring.domain.points.service.PointsService;
+import com.bespring.domain.statistics.dto.StatsOverviewAggregate;
 import com.bespring.domain.statistics.dto.response.OverviewStatsResponse;
+import com.bespring.domain.statistics.entity.UserDailyStats;
+import com.bespring.global.exception.CustomException;
+import com.bespring.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class StatisticsServiceImpl implements StatisticsService {
 
-    private final CallLogService callLogService;
+    // 일별 배열과 캐시 항목 크기가 기간에 비례하므로 최대 조회 기간 제한
+    private static final long MAX_PERIOD_DAYS = 366;
+
+    private final UserDailyStatsService userDailyStatsService;
     private final MissionService missionService;
-    private final PointsService pointsService;
+    private final StatisticsCache statisticsCache;
 
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션은 롤업 조회(UserDailyStatsService)에서만 시작
     @Override
     public OverviewStatsResponse getOverviewStats(Long userId) {
+        return statisticsCache.getOverview(userId, OverviewStatsResponse.class, () -> loadOverviewStats(userId));
+    }
+
+    @Override
+    public PeriodStats getPeriodStats(Long userId, LocalDate startDate, LocalDate endDate) {
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_PERIOD_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "조회 기간은 최대 " + MAX_PERIOD_DAYS + "일입니다.");
+        }
+
+        return statisticsCache.getPeriod(userId, startDate, endDate, PeriodStats.class,
+                () -> loadPeriodStats(userId, startDate, endDate));
+    }
+
+    @Override
+    public CalendarStats getCalendarStats(Long userId, int year, int month) {
+        return statisticsCache.getCalendar(userId, YearMonth.of(year, month), CalendarStats.class,
+                () -> loadCalendarStats(userId, year, month));
+    }
+
+    private OverviewStatsResponse loadOverviewStats(Long userId) {
+        LocalDate today = LocalDate.now();
+
+        // 전체/최근 30일/이번 달/최근 7일 통계를 일일 롤업에서 단일 쿼리로 집계
+        StatsOverviewAggregate aggregate = userDailyStatsService.getOverviewAggregate(
+                userId, today.minusDays(30), today.withDayOfMonth(1), today.minusDays(7));
+
         // 전체 통계
-        Long totalAlarms = callLogService.getTotalCallCount(userId);
-        Long successAlarms = callLogService.getSuccessCallCount(userId);
+        Long totalAlarms = nullToZero(aggregate.getTotalCount());
+        Long successAlarms = nullToZero(aggregate.getSuccessCount());
         Long missedAlarms = totalAlarms - successAlarms;
-        Double successRate = callLogService.getSuccessRate(userId);
+        Double successRate = calculateRate(successAlarms, totalAlarms);
 
         // 최근 30일 통계
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        Long recentTotalCalls = callLogService.getCallCountAfterDate(userId, thirtyDaysAgo);
-        Long recentSuccessCalls = callLogService.getSuccessCallCountAfterDate(userId, thirtyDaysAgo);
-        Double last30DaysSuccessRate = recentTotalCalls > 0 ?
-                (recentSuccessCalls.doubleValue() / recentTotalCalls.doubleValue()) * 100.0 : 0.0;
+        Double last30DaysSuccessRate = calculateRate(
+                nullToZero(aggregate.getRecentSuccessCount()), nullToZero(aggregate.getRecentCount()));
 
         // 이번 달 통계
-        LocalDateTime monthStart = LocalDateTime.now().withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
-        Long monthlyTotalCalls = callLogService.getCallCountAfterDate(userId, monthStart);
-        Long monthlySuccessCalls = callLogService.getSuccessCallCountAfterDate(userId, monthStart);
-        Double monthlySuccessRate = monthlyTotalCalls > 0 ?
-                (monthlySuccessCalls.doubleValue() / monthlyTotalCalls.doubleValue()) * 100.0 : 0.0;
+        Double monthlySuccessRate = calculateRate(
+                nullToZero(aggregate.getMonthlySuccessCount()), nullToZero(aggregate.getMonthlyCount()));
 
         // 평균 기상시간
-        Double avgWakeHour = callLogService.getAverageWakeTime(userId);
-        String averageWakeTime = formatWakeTime(avgWakeHour);
+        String averageWakeTime = formatWakeTime(calculateAverageWakeHour(
+                nullToZero(aggregate.getWakeMinuteSum()), successAlarms));
 
         // 이번 달 포인트
-        Integer monthlyPoints = pointsService.getPointsByType(userId, PointsHistory.PointType.GRADE);
+        Long monthlyPoints = nullToZero(aggregate.getGradePoints());
 
         return OverviewStatsResponse.builder()
                 .totalAlarms(totalAlarms)
                 .successAlarms(successAlarms)
                 .missedAlarms(missedAlarms)
                 .successRate(Math.round(successRate * 100.0) / 100.0)
-                .consecutiveDays(calculateConsecutiveSuccessDays(userId))
+                .consecutiveDays(calculateConsecutiveSuccessDays(
+                        nullToZero(aggregate.getWeeklyCount()), nullToZero(aggregate.getWeeklySuccessCount())))
                 .averageWakeTime(averageWakeTime)
                 .last30DaysSuccessRate(Math.round(last30DaysSuccessRate * 100.0) / 100.0)
                 .monthlySuccessRate(Math.round(monthlySuccessRate * 100.0) / 100.0)
-                .monthlyPoints(monthlyPoints != null ? monthlyPoints : 0)
+                .monthlyPoints(monthlyPoints.intValue())
                 .build();
     }
 
-    @Override
-    public PeriodStats getPeriodStats(Long userId, LocalDate startDate, LocalDate endDate) {
+    private PeriodStats loadPeriodStats(Long userId, LocalDate startDate, LocalDate endDate) {
         // Period 정보
         PeriodStats.PeriodInfo period = PeriodStats.PeriodInfo.builder()
                 .startDate(startDate)
                 .endDate(endDate)
                 .build();
 
-        // 기간 내 실제 통계 계산
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
-
-        Long totalAlarms = callLogService.getCallCountAfterDate(userId, startDateTime) -
-                          callLogService.getCallCountAfterDate(userId, endDateTime.plusSeconds(1));
-        Long successAlarms = callLogService.getSuccessCallCountAfterDate(userId, startDateTime) -
-                            callLogService.getSuccessCallCountAfterDate(userId, endDateTime.plusSeconds(1));
+        // 기간 내 일일 롤업 조회 (범위 스캔 1회)
+        Map<LocalDate, UserDailyStats> statsByDate = getStatsByDate(userId, startDate, endDate);
+
+        // 일별 통계 생성 및 기간 합계 계산
+        List<PeriodStats.DailyStat> dailyStats = generateDailyStats(statsByDate, startDate, endDate);
+
+        long totalAlarms = 0L;
+        long successAlarms = 0L;
+        long wakeMinuteSum = 0L;
+        int totalPoints = 0;
+        for (UserDailyStats stats : statsByDate.values()) {
+            totalAlarms += stats.getTotalCount();
+            successAlarms += stats.getSuccessCount();
+            wakeMinuteSum += stats.getWakeMinuteSum();
+            totalPoints += stats.getGradePoints();
+        }
 
         Long failedAlarms = totalAlarms - successAlarms;
-        Double successRate = totalAlarms > 0 ? (successAlarms.doubleValue() / totalAlarms.doubleValue()) * 100.0 : 0.0;
+        Double successRate = calculateRate(successAlarms, totalAlarms);
 
-        // 평균 기상시간
-        Double avgWakeHour = callLogService.getAverageWakeTime(userId);
-        String averageWakeTime = formatWakeTime(avgWakeHour);
-
-        // 기간 내 포인트 (근사치)
-        Integer totalPoints = pointsService.getTotalPoints(userId);
-
-        // 일별 통계 생성
-        List<PeriodStats.DailyStat> dailyStats = generateDailyStats(userId, startDate, endDate);
+        // 기간 내 평균 기상시간
+        String averageWakeTime = formatWakeTime(calculateAverageWakeHour(wakeMinuteSum, successAlarms));
 
         return PeriodStats.builder()
                 .period(period)
-                .totalAlarms(Math.max(0L, totalAlarms))
-                .successAlarms(Math.max(0L, successAlarms))
-                .failedAlarms(Math.max(0L, failedAlarms))
+                .totalAlarms(totalAlarms)
+                .successAlarms(successAlarms)
+                .failedAlarms(failedAlarms)
                 .successRate(Math.round(successRate * 100.0) / 100.0)
                 .totalPoints(totalPoints)
                 .averageWakeTime(averageWakeTime)
@@ -110,33 +136,34 @@ public class StatisticsServiceImpl implements StatisticsService {
                 .build();
     }
 
-    @Override
-    public CalendarStats getCalendarStats(Long userId, int year, int month) {
+    private CalendarStats loadCalendarStats(Long userId, int year, int month) {
         // 해당 월의 시작과 끝
         LocalDate monthStart = LocalDate.of(year, month, 1);
         LocalDate monthEnd = monthStart.withDayOfMonth(monthStart.lengthOfMonth());
-        LocalDateTime startDateTime = monthStart.atStartOfDay();
-        LocalDateTime endDateTime = monthEnd.atTime(23, 59, 59);
 
-        // 월별 실제 통계 계산
-        Long totalAlarms = callLogService.getCallCountAfterDate(userId, startDateTime) -
-                          callLogService.getCallCountAfterDate(userId, endDateTime.plusSeconds(1));
-        Long successAlarms = callLogService.getSuccessCallCountAfterDate(userId, startDateTime) -
-                            callLogService.getSuccessCallCountAfterDate(userId, endDateTime.plusSeconds(1));
+        // 월 내 일일 롤업 조회 (범위 스캔 1회)
+        Map<LocalDate, UserDailyStats> statsByDate = getStatsByDate(userId, monthStart, monthEnd);
+
+        // 일별 결과 생성 및 월별 합계 계산
+        List<CalendarStats.DailyResult> dailyResults = generateMonthlyDailyResults(statsByDate, monthStart);
+
+        long totalAlarms = 0L;
+        long successAlarms = 0L;
+        for (UserDailyStats stats : statsByDate.values()) {
+            totalAlarms += stats.getTotalCount();
+            successAlarms += stats.getSuccessCount();
+        }
 
         Long failedAlarms = totalAlarms - successAlarms;
-        Double successRate = totalAlarms > 0 ? (successAlarms.doubleValue() / totalAlarms.doubleValue()) * 100.0 : 0.0;
+        Double successRate = calculateRate(successAlarms, totalAlarms);
 
         CalendarStats.MonthSummary monthSummary = CalendarStats.MonthSummary.builder()
-                .totalAlarms(Math.max(0L, totalAlarms))
-                .successAlarms(Math.max(0L, successAlarms))
-                .failedAlarms(Math.max(0L, failedAlarms))
+                .totalAlarms(totalAlarms)
+                .successAlarms(successAlarms)
+                .failedAlarms(failedAlarms)
                 .successRate(Math.round(successRate * 100.0) / 100.0)
                 .build();
 
-        // 일별 결과 생성
-        List<CalendarStats.DailyResult> dailyResults = generateMonthlyDailyResults(userId, year, month);
-
         return CalendarStats.builder()
                 .year(year)
                 .month(month)
@@ -156,41 +183,56 @@ public class StatisticsServiceImpl implements StatisticsService {
         return String.format("%02d:%02d", hour, minute);
     }
 
-    private Integer calculateConsecutiveSuccessDays(Long userId) {
-        // 최근 통화 기록들을 날짜순으로 가져와서 연속 성공일 계산
-        try {
-            // 간단한 구현: 최근 7일간의 성공률이 80% 이상이면 연속일로 간주
-            LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-            Long recentTotal = callLogService.getCallCountAfterDate(userId, weekAgo);
-            Long recentSuccess = callLogService.getSuccessCallCountAfterDate(userId, weekAgo);
-
-            if (recentTotal > 0 && (recentSuccess.doubleValue() / recentTotal.doubleValue()) >= 0.8) {
-                return recentTotal.intValue(); // 근사치로 성공한 알람 수를 연속일로 반환
-            }
-            return 0;
-        } catch (Exception e) {
-            log.warn("연속 성공일 계산 중 오류 발생: {}", e.getMessage());
-            return 0;
+    private Double calculateAverageWakeHour(Long wakeMinuteSum, Long successCount) {
+        if (successCount == 0) {
+            return null;
         }
+        return wakeMinuteSum.doubleValue() / successCount.doubleValue() / 60.0;
     }
 
-    private List<PeriodStats.DailyStat> generateDailyStats(Long userId, LocalDate startDate, LocalDate endDate) {
-        List<PeriodStats.DailyStat> dailyStats = new ArrayList<>();
+    private Integer calculateConsecutiveSuccessDays(Long recentTotal, Long recentSuccess) {
+        // 간단한 구현: 최근 7일간의 성공률이 80% 이상이면 연속일로 간주
+        if (recentTotal > 0 && (recentSuccess.doubleValue() / recentTotal.doubleValue()) >= 0.8) {
+            return recentTotal.intValue(); // 근사치로 성공한 알람 수를 연속일로 반환
+        }
+        return 0;
+    }
+
+    private Double calculateRate(Long successCount, Long totalCount) {
+        return totalCount > 0 ? (successCount.doubleValue() / totalCount.doubleValue()) * 100.0 : 0.0;
+    }
 
-        // 기간이 너무 길면 빈 리스트 반환 (성능 고려)
-        if (startDate.plusDays(31).isBefore(endDate)) {
-            return dailyStats;
+    private Long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private Map<LocalDate, UserDailyStats> getStatsByDate(Long userId, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, UserDailyStats> statsByDate = new HashMap<>();
+        if (startDate.isAfter(endDate)) {
+            return statsByDate;
+        }
+
+        for (UserDailyStats stats : userDailyStatsService.getDailyStats(userId, startDate, endDate)) {
+            statsByDate.put(stats.getStatDate(), stats);
         }
+        return statsByDate;
+    }
+
+    private List<PeriodStats.DailyStat> generateDailyStats(Map<LocalDate, UserDailyStats> statsByDate,
+                                                           LocalDate startDate, LocalDate endDate) {
+        List<PeriodStats.DailyStat> dailyStats = new ArrayList<>();
 
+        // 롤업 행이 없는 날짜는 0으로 채워 연속된 일별 배열 생성
         LocalDate currentDate = startDate;
         while (!currentDate.isAfter(endDate)) {
-            // 각 날짜별로 기본 통계 생성 (실제 구현시에는 DB 쿼리 최적화 필요)
+            UserDailyStats stats = statsByDate.get(currentDate);
+
             PeriodStats.DailyStat dailyStat = PeriodStats.DailyStat.builder()
                     .date(currentDate)
-                    .alarmCount(0L)
-                    .successCount(0L)
-                    .failCount(0L)
-                    .points(0)
+                    .alarmCount(stats != null ? stats.getTotalCount().longValue() : 0L)
+                    .successCount(stats != null ? stats.getSuccessCount().longValue() : 0L)
+                    .failCount(stats != null ? (long) stats.getFailCount() : 0L)
+                    .points(stats != null ? stats.getGradePoints() : 0)
                     .build();
 
             dailyStats.add(dailyStat);
@@ -200,20 +242,21 @@ public class StatisticsServiceImpl implements StatisticsService {
         return dailyStats;
     }
 
-    private List<CalendarStats.DailyResult> generateMonthlyDailyResults(Long userId, int year, int month) {
+    private List<CalendarStats.DailyResult> generateMonthlyDailyResults(Map<LocalDate, UserDailyStats> statsByDate,
+                                                                        LocalDate monthStart) {
         List<CalendarStats.DailyResult> dailyResults = new ArrayList<>();
 
-        LocalDate monthStart = LocalDate.of(year, month, 1);
-        int daysInMonth = monthStart.lengthOfMonth();
+        for (int day = 1; day <= monthStart.lengthOfMonth(); day++) {
+            UserDailyStats stats = statsByDate.get(monthStart.withDayOfMonth(day));
+            long alarmCount = stats != null ? stats.getTotalCount() : 0L;
+            long successCount = stats != null ? stats.getSuccessCount() : 0L;
 
-        for (int day = 1; day <= daysInMonth; day++) {
-            // 각 날짜별로 기본 결과 생성 (실제 구현시에는 DB 쿼리 최적화 필요)
             CalendarStats.DailyResult dailyResult = CalendarStats.DailyResult.builder()
                     .day(day)
-                    .alarmCount(0L)
-                    .successCount(0L)
-                    .failCount(0L)
-                    .status("none") // "success", "failure", "none"
+                    .alarmCount(alarmCount)
+                    .successCount(successCount)
+                    .failCount(alarmCount - successCount)
+                    .status(resolveDailyStatus(alarmCount, successCount))
                     .build();
 
             dailyResults.add(dailyResult);
@@ -221,4 +264,12 @@ public class StatisticsServiceImpl implements StatisticsService {
 
         return dailyResults;
     }
-}
\ No newline at end of file
+
+    private String resolveDailyStatus(long alarmCount, long successCount) {
+        if (alarmCount == 0) {
+            return "none";
+        }
+        // 하루 중 한 번이라도 기상에 성공했으면 성공으로 표시
+        return successCount > 0 ? "success" : "failure";
+    }
+}
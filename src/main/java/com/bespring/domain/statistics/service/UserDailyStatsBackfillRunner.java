@@ -0,0 +1,55 @@
+package com.bespring.domain.statistics.service;
+
+import com.bespring.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 전체 사용자의 일일 통계 롤업을 재구성하는 백필 작업
+ * 롤업 도입 직후 또는 불일치 복구 시 app.statistics.rollup.backfill-on-startup=true 로 1회 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.statistics.rollup.backfill-on-startup", havingValue = "true")
+public class UserDailyStatsBackfillRunner implements ApplicationRunner {
+
+    private final UserDailyStatsBackfillService backfillService;
+    private final UserRepository userRepository;
+
+    @Value("${app.statistics.rollup.backfill-batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Starting daily stats rollup backfill");
+
+        int page = 0;
+        int users = 0;
+        int failures = 0;
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findAllIds(PageRequest.of(page++, batchSize));
+            for (Long userId : userIds) {
+                try {
+                    // 사용자 단위 트랜잭션으로 재구성
+                    backfillService.rebuildUser(userId);
+                    users++;
+                } catch (Exception e) {
+                    failures++;
+                    log.warn("Failed to rebuild daily stats for user {}: {}", userId, e.getMessage());
+                }
+            }
+        } while (userIds.size() == batchSize);
+
+        log.info("Finished daily stats rollup backfill: users={}, failures={}", users, failures);
+    }
+}
@@ -0,0 +1,74 @@
+package com.bespring.domain.statistics.service;
+
+import com.bespring.domain.call.dto.CallDailyAggregate;
+import com.bespring.domain.call.repository.CallLogRepository;
+import com.bespring.domain.points.dto.response.PointsDailyAggregate;
+import com.bespring.domain.points.entity.PointsHistory;
+import com.bespring.domain.points.repository.PointsHistoryRepository;
+import com.bespring.domain.statistics.entity.UserDailyStats;
+import com.bespring.domain.statistics.repository.UserDailyStatsRepository;
+import com.bespring.domain.user.entity.User;
+import com.bespring.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class UserDailyStatsBackfillService {
+
+    private final UserDailyStatsRepository userDailyStatsRepository;
+    private final CallLogRepository callLogRepository;
+    private final PointsHistoryRepository pointsHistoryRepository;
+    private final UserRepository userRepository;
+
+    // 사용자의 일일 통계 롤업을 원본 통화 기록/포인트 내역으로부터 재구성
+    public int rebuildUser(Long userId) {
+        User user = userRepository.getReferenceById(userId);
+        Map<LocalDate, UserDailyStats.UserDailyStatsBuilder> builders = new TreeMap<>();
+
+        for (CallDailyAggregate row : callLogRepository.aggregateDailyByUserId(userId)) {
+            builders.computeIfAbsent(row.getStatDate(), date -> newBuilder(user, date))
+                    .totalCount(toInt(row.getTotalCount()))
+                    .successCount(toInt(row.getSuccessCount()))
+                    .failNoTalkCount(toInt(row.getFailNoTalkCount()))
+                    .failSnoozeCount(toInt(row.getFailSnoozeCount()))
+                    .snoozeSum(toInt(row.getSnoozeSum()))
+                    .wakeMinuteSum(row.getWakeMinuteSum() != null ? row.getWakeMinuteSum() : 0L);
+        }
+
+        for (PointsDailyAggregate row : pointsHistoryRepository.sumDailyAmountByUserIdAndType(
+                userId, PointsHistory.PointType.GRADE)) {
+            builders.computeIfAbsent(row.getStatDate(), date -> newBuilder(user, date))
+                    .gradePoints(toInt(row.getPoints()));
+        }
+
+        userDailyStatsRepository.deleteByUserId(userId);
+
+        List<UserDailyStats> rows = new ArrayList<>(builders.size());
+        builders.values().forEach(builder -> rows.add(builder.build()));
+        userDailyStatsRepository.saveAll(rows);
+
+        log.debug("Rebuilt daily stats for user {}: {} days", userId, rows.size());
+        return rows.size();
+    }
+
+    private UserDailyStats.UserDailyStatsBuilder newBuilder(User user, LocalDate statDate) {
+        return UserDailyStats.builder()
+                .user(user)
+                .statDate(statDate);
+    }
+
+    private int toInt(Long value) {
+        return value != null ? value.intValue() : 0;
+    }
+}
@@ -0,0 +1,164 @@
+package com.bespring.domain.statistics.service;
+
+import com.bespring.domain.call.entity.CallLog;
+import com.bespring.domain.statistics.dto.StatsOverviewAggregate;
+import com.bespring.domain.statistics.entity.UserDailyStats;
+import com.bespring.domain.statistics.event.StatisticsChangedEvent;
+import com.bespring.domain.statistics.repository.UserDailyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class UserDailyStatsService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO user_daily_stats (user_id, stat_date, total_count, success_count, fail_no_talk_count, " +
+            "fail_snooze_count, snooze_sum, wake_minute_sum, grade_points, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final UserDailyStatsRepository userDailyStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 종료된 통화 1건을 통화 시작 날짜의 롤업에 반영 (호출한 서비스의 트랜잭션에 참여)
+    public void recordCall(Long userId, LocalDateTime callStart, CallLog.CallResult result, int snoozeCount) {
+        LocalDate statDate = callStart.toLocalDate();
+        int success = result == CallLog.CallResult.SUCCESS ? 1 : 0;
+        int failNoTalk = result == CallLog.CallResult.FAIL_NO_TALK ? 1 : 0;
+        int failSnooze = result == CallLog.CallResult.FAIL_SNOOZE ? 1 : 0;
+        long wakeMinutes = success == 1 ? toMinuteOfDay(callStart) : 0L;
+
+        upsert(() -> userDailyStatsRepository.incrementCallCounters(
+                        userId, statDate, success, failNoTalk, failSnooze, snoozeCount, wakeMinutes),
+                userId, statDate, 1, success, failNoTalk, failSnooze, snoozeCount, wakeMinutes, 0);
+
+        // 커밋 후 해당 날짜의 통계 캐시 무효화
+        eventPublisher.publishEvent(new StatisticsChangedEvent(userId, statDate));
+
+        log.debug("Recorded call in daily stats: userId={}, date={}, result={}", userId, statDate, result);
+    }
+
+    // 등급 포인트 변동을 해당 날짜의 롤업에 반영 (차감은 음수)
+    public void recordGradePoints(Long userId, LocalDate statDate, int points) {
+        upsert(() -> userDailyStatsRepository.incrementGradePoints(userId, statDate, points),
+                userId, statDate, 0, 0, 0, 0, 0, 0L, points);
+
+        eventPublisher.publishEvent(new StatisticsChangedEvent(userId, statDate));
+    }
+
+    /**
+     * 같은 날짜에 여러 사용자의 등급 포인트 변동을 한 번에 반영 (일괄 지급용)
+     * 행이 없는 사용자는 0으로 먼저 생성한 뒤, 증분은 CASE로 묶은 UPDATE 한 건으로 반영하고
+     * 통계 캐시 무효화 이벤트도 한 번만 발행합니다.
+     */
+    public void recordGradePoints(Map<Long, Integer> pointsByUser, LocalDate statDate) {
+        if (pointsByUser.isEmpty()) {
+            return;
+        }
+        List<Long> userIds = List.copyOf(pointsByUser.keySet());
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        Date date = Date.valueOf(statDate);
+
+        List<Object> selectArgs = new ArrayList<>(userIds.size() + 1);
+        selectArgs.add(date);
+        selectArgs.addAll(userIds);
+        Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT user_id FROM user_daily_stats WHERE stat_date = ? AND user_id IN (" + placeholders + ")",
+                Long.class, selectArgs.toArray()));
+        insertEmptyRows(userIds.stream().filter(userId -> !existing.contains(userId)).toList(), date);
+
+        StringBuilder sql = new StringBuilder("UPDATE user_daily_stats SET grade_points = grade_points + CASE user_id");
+        List<Object> updateArgs = new ArrayList<>(userIds.size() * 3 + 1);
+        for (Long userId : userIds) {
+            sql.append(" WHEN ? THEN ?");
+            updateArgs.add(userId);
+            updateArgs.add(pointsByUser.get(userId));
+        }
+        sql.append(" ELSE 0 END WHERE stat_date = ? AND user_id IN (").append(placeholders).append(")");
+        updateArgs.add(date);
+        updateArgs.addAll(userIds);
+        jdbcTemplate.update(sql.toString(), updateArgs.toArray());
+
+        eventPublisher.publishEvent(new StatisticsChangedEvent(userIds, statDate));
+
+        log.debug("Recorded grade points in daily stats: {} users, date={}", userIds.size(), statDate);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserDailyStats> getDailyStats(Long userId, LocalDate startDate, LocalDate endDate) {
+        return userDailyStatsRepository.findByUser_IdAndStatDateBetweenOrderByStatDateAsc(userId, startDate, endDate);
+    }
+
+    @Transactional(readOnly = true)
+    public StatsOverviewAggregate getOverviewAggregate(Long userId, LocalDate recentStart,
+                                                       LocalDate monthStart, LocalDate weekStart) {
+        return userDailyStatsRepository.aggregateOverviewByUserId(userId, recentStart, monthStart, weekStart);
+    }
+
+    /**
+     * 해당 날짜 행이 있으면 증분 갱신, 없으면 초기값으로 생성
+     * 동시에 첫 기록이 들어와 유니크 키(user_id, stat_date)가 충돌하면 먼저 생성된 행에 증분 갱신합니다.
+     * INSERT는 JdbcTemplate으로 실행하여 충돌 예외가 호출자 트랜잭션을 rollback-only로 만들지 않습니다.
+     */
+    private void upsert(IntSupplier increment, Long userId, LocalDate statDate, int totalCount, int successCount,
+                        int failNoTalkCount, int failSnoozeCount, int snoozeSum, long wakeMinuteSum, int gradePoints) {
+        if (increment.getAsInt() > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, userId, Date.valueOf(statDate), totalCount, successCount,
+                    failNoTalkCount, failSnoozeCount, snoozeSum, wakeMinuteSum, gradePoints,
+                    Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            log.debug("Daily stats row for user {} on {} was created concurrently, applying increment", userId, statDate);
+            increment.getAsInt();
+        }
+    }
+
+    // 증분 전에 빈 행 생성 (값이 0이므로 동시에 생성된 행과 충돌하면 건너뛰어도 누락 없음)
+    private void insertEmptyRows(List<Long> userIds, Date statDate) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = userIds.stream()
+                .map(userId -> new Object[]{userId, statDate, 0, 0, 0, 0, 0, 0L, 0, now})
+                .toList();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        } catch (DuplicateKeyException e) {
+            log.debug("Daily stats rows on {} were created concurrently, inserting one by one", statDate);
+            for (Object[] row : rows) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, row);
+                } catch (DuplicateKeyException ignored) {
+                    // 이미 생성된 행은 UPDATE에서 증분
+                }
+            }
+        }
+    }
+
+    public static long toMinuteOfDay(LocalDateTime dateTime) {
+        return dateTime.getHour() * 60L + dateTime.getMinute();
+    }
+}
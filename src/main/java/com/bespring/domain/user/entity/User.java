@@ -1,5 +1,6 @@
 package com.bespring.domain.user.entity;
 
+import com.bespring.domain.points.entity.PointsHistory;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -33,6 +34,15 @@ public class User {
     @Builder.Default
     private Integer points = 0;
 
+    // 유형별 포인트 잔액 (points_history 원장 합계의 구체화, UserRepository의 조건부 UPDATE로만 변경)
+    @Column(name = "consumption_balance", nullable = false)
+    @Builder.Default
+    private Integer consumptionBalance = 0;
+
+    @Column(name = "grade_balance", nullable = false)
+    @Builder.Default
+    private Integer gradeBalance = 0;
+
     @Column(name = "selected_avatar", length = 50)
     @Builder.Default
     private String selectedAvatar = "avatar_1";
@@ -45,15 +55,7 @@ public class User {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
-    public void addPoints(Integer amount) {
-        this.points += amount;
-    }
-
-    public void subtractPoints(Integer amount) {
-        if (this.points >= amount) {
-            this.points -= amount;
-        } else {
-            throw new IllegalArgumentException("Insufficient points");
-        }
+    public Integer getBalance(PointsHistory.PointType type) {
+        return type == PointsHistory.PointType.CONSUMPTION ? consumptionBalance : gradeBalance;
     }
 }
\ No newline at end of file
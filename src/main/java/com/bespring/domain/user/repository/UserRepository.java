@@ -1,11 +1,15 @@
 package com.bespring.domain.user.repository;
 
 import com.bespring.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -22,4 +26,44 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u.points FROM User u WHERE u.id = :userId")
     Integer findPointsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT u.id FROM User u ORDER BY u.id ASC")
+    List<Long> findAllIds(Pageable pageable);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id ASC")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 유형별 잔액 적립
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.consumptionBalance = u.consumptionBalance + :amount, u.points = u.points + :amount " +
+           "WHERE u.id = :userId")
+    int creditConsumptionBalance(@Param("userId") Long userId, @Param("amount") int amount);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.gradeBalance = u.gradeBalance + :amount, u.points = u.points + :amount " +
+           "WHERE u.id = :userId")
+    int creditGradeBalance(@Param("userId") Long userId, @Param("amount") int amount);
+
+    // 유형별 잔액 차감 - 잔액 확인과 차감을 조건부 UPDATE 한 번으로 처리 (0이면 잔액 부족 또는 사용자 없음)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.consumptionBalance = u.consumptionBalance - :amount, u.points = u.points - :amount " +
+           "WHERE u.id = :userId AND u.consumptionBalance >= :amount")
+    int debitConsumptionBalance(@Param("userId") Long userId, @Param("amount") int amount);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.gradeBalance = u.gradeBalance - :amount, u.points = u.points - :amount " +
+           "WHERE u.id = :userId AND u.gradeBalance >= :amount")
+    int debitGradeBalance(@Param("userId") Long userId, @Param("amount") int amount);
+
+    // 대사 보정 - 조회 이후 잔액이 바뀌지 않은 경우에만 원장 합계로 교체 (compare-and-set, 총 포인트도 함께 맞춤)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.consumptionBalance = :consumption, u.gradeBalance = :grade, " +
+           "u.points = :consumption + :grade " +
+           "WHERE u.id = :userId AND u.consumptionBalance = :expectedConsumption AND u.gradeBalance = :expectedGrade")
+    int repairBalances(@Param("userId") Long userId,
+                       @Param("consumption") int consumption, @Param("grade") int grade,
+                       @Param("expectedConsumption") int expectedConsumption, @Param("expectedGrade") int expectedGrade);
 }
\ No newline at end of file
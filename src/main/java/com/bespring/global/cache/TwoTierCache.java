@@ -0,0 +1,138 @@
+package com.bespring.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 로컬(Caffeine) L1 + Redis L2 2단계 캐시
+ * 조회 순서: L1 → L2 → loader(DB). loader가 null을 반환하면 캐시하지 않습니다.
+ * 무효화는 TwoTierCacheManager를 통해 다른 노드의 L1에도 전파됩니다.
+ * 무효화 시 키별 버전(cache:{name}:{key}:version)을 올리고, loader 호출 전에 읽은 버전이 그대로일 때만 저장하여
+ * 로드 도중 커밋된 변경 이전 값이 무효화 이후에 다시 저장되지 않도록 합니다.
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    private static final String NO_VERSION = "0";
+
+    // loader 호출 전에 읽은 버전이 그대로일 때만 저장 (저장 여부 반환)
+    private static final RedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) or '0' " +
+            "if v ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3]) " +
+            "return 1", Long.class);
+
+    private final String name;
+    private final Class<V> type;
+    private final Cache<String, V> local;
+    private final Duration remoteTtl;
+    private final TwoTierCacheManager manager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    TwoTierCache(String name, Class<V> type, Cache<String, V> local, Duration remoteTtl,
+                 TwoTierCacheManager manager, RedisTemplate<String, String> redisTemplate,
+                 ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.type = type;
+        this.local = local;
+        this.remoteTtl = remoteTtl;
+        this.manager = manager;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public V get(String key, Supplier<V> loader) {
+        V value = local.getIfPresent(key);
+        if (value != null) {
+            count("l1");
+            return value;
+        }
+
+        String remoteKey = remoteKey(key);
+        String versionKey = versionKey(key);
+        // 버전을 읽지 못하면(Redis 장애) L2에 저장하지 않고 L1에만 보관
+        String version = null;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(remoteKey, versionKey));
+            if (values != null) {
+                String cached = values.get(0);
+                if (cached != null) {
+                    value = objectMapper.readValue(cached, type);
+                    local.put(key, value);
+                    count("l2");
+                    return value;
+                }
+                version = Objects.requireNonNullElse(values.get(1), NO_VERSION);
+            }
+        } catch (Exception e) {
+            log.warn("Redis is not available, {} cache lookup skipped: {}", name, e.getMessage());
+        }
+
+        count("miss");
+        value = loader.get();
+        if (value == null) {
+            return null;
+        }
+
+        // L1을 먼저 채우고 버전이 바뀌었으면 다시 제거 (저장 이후의 무효화는 L1 무효화로 정리됨)
+        local.put(key, value);
+        if (version != null) {
+            try {
+                Long stored = redisTemplate.execute(STORE_SCRIPT, List.of(versionKey, remoteKey),
+                        version, objectMapper.writeValueAsString(value), String.valueOf(remoteTtl.toMillis()));
+                if (stored == null || stored == 0) {
+                    local.invalidate(key);
+                    count("stale");
+                }
+            } catch (Exception e) {
+                log.warn("Redis is not available, {} cache store skipped: {}", name, e.getMessage());
+            }
+        }
+        return value;
+    }
+
+    // 로컬/Redis 항목을 삭제하고 다른 노드에 L1 무효화를 전파
+    public void evict(String key) {
+        local.invalidate(key);
+        try {
+            // 진행 중인 로드가 변경 이전 값을 저장하지 못하도록 먼저 버전을 올림
+            String versionKey = versionKey(key);
+            redisTemplate.opsForValue().increment(versionKey);
+            redisTemplate.expire(versionKey, remoteTtl);
+            redisTemplate.delete(remoteKey(key));
+        } catch (Exception e) {
+            log.warn("Redis is not available, {} cache eviction skipped: {}", name, e.getMessage());
+        }
+        manager.publishEviction(name, key);
+    }
+
+    void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    // 항목과 버전 키가 클러스터 모드에서 같은 슬롯에 있도록 key를 hash tag로 감쌈
+    private String remoteKey(String key) {
+        return "cache:" + name + ":{" + key + "}";
+    }
+
+    private String versionKey(String key) {
+        return remoteKey(key) + ":version";
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("cache.two-tier.requests", "cache", name, "result", result).increment();
+    }
+}
@@ -0,0 +1,84 @@
+package com.bespring.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TwoTierCache 생성 및 노드 간 L1 무효화 전파 (Redis pub/sub)
+ * 메시지 형식: {cacheName}|{key}
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TwoTierCacheManager implements MessageListener {
+
+    static final String INVALIDATION_CHANNEL = "cache:invalidate";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<String, TwoTierCache<?>> caches = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public <V> TwoTierCache<V> create(String name, Class<V> type, long localMaxSize,
+                                      Duration localTtl, Duration remoteTtl) {
+        TwoTierCache<V> cache = new TwoTierCache<>(
+                name,
+                type,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaxSize)
+                        .expireAfterWrite(localTtl)
+                        .build(),
+                remoteTtl,
+                this,
+                redisTemplate,
+                objectMapper,
+                meterRegistry
+        );
+        caches.put(name, cache);
+        return cache;
+    }
+
+    void publishEviction(String name, String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, name + "|" + key);
+        } catch (Exception e) {
+            log.warn("Redis is not available, {} cache invalidation not broadcast: {}", name, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0) {
+            return;
+        }
+
+        TwoTierCache<?> cache = caches.get(body.substring(0, separator));
+        if (cache != null) {
+            cache.evictLocal(body.substring(separator + 1));
+        }
+    }
+}
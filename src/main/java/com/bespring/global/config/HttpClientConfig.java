@@ -1,23 +1,40 @@
 package com.bespring.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 @Configuration
 public class HttpClientConfig {
 
+    @Value("${app.http.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${app.http.read-timeout-ms:10000}")
+    private long readTimeoutMs;
+
+    // 외부 API 호출용 공유 클라이언트: 커넥션 재사용(keep-alive) 및 HTTP/2 멀티플렉싱 (미지원 서버는 HTTP/1.1로 협상)
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        // Timeouts in milliseconds (sane defaults for external API calls)
-        factory.setConnectTimeout(5000);
-        factory.setReadTimeout(10000);
+    public HttpClient httpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(HttpClient httpClient) {
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
 
         RestTemplate restTemplate = new RestTemplate();
         restTemplate.setRequestFactory(factory);
         return restTemplate;
     }
 }
-
@@ -38,6 +38,8 @@ public class SecurityConfig {
                             "/api/auth/**",
                             "/actuator/**",
                             "/error",
+                            // WebSocket: JWT는 핸드셰이크 인터셉터에서 검증
+                            "/api/ws/**",
                             // Swagger extension-less redirects
                             "/api/swagger-ui",
                             "/swagger-ui",
@@ -0,0 +1,30 @@
+package com.bespring.global.config;
+
+import com.bespring.domain.call.websocket.TranscriptHandshakeInterceptor;
+import com.bespring.domain.call.websocket.TranscriptWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final TranscriptWebSocketHandler transcriptWebSocketHandler;
+    private final TranscriptHandshakeInterceptor transcriptHandshakeInterceptor;
+
+    @Value("${app.cors.allowed-origins}")
+    private String allowedOrigins;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // 통화 중 발화 스트리밍 (JWT는 핸드셰이크에서 검증)
+        registry.addHandler(transcriptWebSocketHandler, "/api/ws/calls/*/transcript")
+                .addInterceptors(transcriptHandshakeInterceptor)
+                .setAllowedOriginPatterns(allowedOrigins.split(","));
+    }
+}
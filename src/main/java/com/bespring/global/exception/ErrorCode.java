@@ -30,11 +30,15 @@ public enum ErrorCode {
     CALL_NOT_FOUND(HttpStatus.NOT_FOUND, "CALL_001", "통화 기록을 찾을 수 없습니다."),
     CALL_ALREADY_IN_PROGRESS(HttpStatus.CONFLICT, "CALL_002", "이미 진행 중인 통화가 있습니다."),
     CALL_ALREADY_ENDED(HttpStatus.BAD_REQUEST, "CALL_003", "이미 종료된 통화입니다."),
+    TRANSCRIPT_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "CALL_004", "대화 내용이 허용 크기를 초과했습니다."),
+    CONVERSATION_BUFFER_FULL(HttpStatus.SERVICE_UNAVAILABLE, "CALL_005", "대화 저장소 장애로 발화를 일시적으로 받을 수 없습니다."),
 
     // OpenAI 관련 에러
     OPENAI_API_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "OPENAI_001", "OpenAI API 호출에 실패했습니다."),
     OPENAI_SESSION_EXPIRED(HttpStatus.UNAUTHORIZED, "OPENAI_002", "OpenAI 세션이 만료되었습니다."),
     OPENAI_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "OPENAI_003", "OpenAI API 사용량이 초과되었습니다."),
+    OPENAI_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "OPENAI_004", "OpenAI API 장애로 일시적으로 요청을 차단하고 있습니다."),
+    OPENAI_TOO_MANY_REQUESTS(HttpStatus.SERVICE_UNAVAILABLE, "OPENAI_005", "OpenAI API 동시 요청이 많아 처리할 수 없습니다."),
 
     // 포인트 관련 에러
     INSUFFICIENT_POINTS(HttpStatus.BAD_REQUEST, "POINT_001", "포인트가 부족합니다."),
@@ -0,0 +1,28 @@
+package com.bespring.global.pagination;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset 페이지 조회 결과 (COUNT 쿼리 없이 limit + 1건 조회로 다음 페이지 여부 판단)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorSlice<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasMore;
+
+    public static <T> CursorSlice<T> of(List<T> rows, int limit, Function<T, KeysetCursor> cursorOf) {
+        boolean hasMore = rows.size() > limit;
+        List<T> content = hasMore ? new ArrayList<>(rows.subList(0, limit)) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorSlice<>(content, nextCursor, hasMore);
+    }
+}
@@ -0,0 +1,52 @@
+package com.bespring.global.pagination;
+
+import com.bespring.global.exception.InvalidRequestException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (created_at, id) 기준 keyset 페이지네이션 커서
+ * 클라이언트에는 Base64url로 인코딩한 불투명 문자열로만 노출
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetCursor {
+
+    // 첫 페이지용 커서 - 모든 행보다 뒤에 있으므로 같은 keyset 쿼리로 처음부터 조회
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static KeysetCursor of(LocalDateTime createdAt, Long id) {
+        return new KeysetCursor(createdAt, id);
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 커서는 첫 페이지
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
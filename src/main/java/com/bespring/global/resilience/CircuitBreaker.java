@@ -0,0 +1,165 @@
+package com.bespring.global.resilience;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 실패율 기반 서킷 브레이커
+ * CLOSED: 최근 windowSize개 호출 중 실패율이 임계치 이상이면 OPEN
+ * OPEN: openDuration 동안 즉시 거절, 이후 HALF_OPEN
+ * HALF_OPEN: halfOpenPermits개 탐색 호출만 허용, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final Duration openDuration;
+    private final int halfOpenPermits;
+    private final Clock clock;
+
+    // 가상 스레드에서 carrier 고정(pinning)을 피하기 위해 synchronized 대신 ReentrantLock 사용
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private Instant openedAt;
+    private int halfOpenIssued;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          Duration openDuration, int halfOpenPermits, Clock clock) {
+        if (windowSize <= 0 || minimumCalls <= 0 || halfOpenPermits <= 0) {
+            throw new IllegalArgumentException("windowSize, minimumCalls and halfOpenPermits must be positive");
+        }
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenPermits = halfOpenPermits;
+        this.clock = clock;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            transitionToHalfOpenIfDue();
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 호출 허용 여부 (허용된 호출은 반드시 onSuccess 또는 onFailure로 결과를 기록해야 함)
+    public boolean tryAcquirePermission() {
+        lock.lock();
+        try {
+            transitionToHalfOpenIfDue();
+            return switch (state) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> {
+                    if (halfOpenIssued < halfOpenPermits) {
+                        halfOpenIssued++;
+                        yield true;
+                    }
+                    yield false;
+                }
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED -> record(false);
+                case HALF_OPEN -> {
+                    halfOpenSucceeded++;
+                    if (halfOpenSucceeded >= halfOpenPermits) {
+                        transitionTo(State.CLOSED);
+                    }
+                }
+                case OPEN -> {
+                    // OPEN 전환 이전에 시작된 호출의 결과는 무시
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED -> {
+                    record(true);
+                    if (recordedCalls >= minimumCalls
+                            && (double) failedCalls / recordedCalls >= failureRateThreshold) {
+                        transitionTo(State.OPEN);
+                    }
+                }
+                case HALF_OPEN -> transitionTo(State.OPEN);
+                case OPEN -> {
+                    // 이미 열린 상태
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == windowSize) {
+            if (outcomes[outcomeIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % windowSize;
+    }
+
+    private void transitionToHalfOpenIfDue() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            transitionTo(State.HALF_OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        switch (next) {
+            case OPEN -> openedAt = clock.instant();
+            case HALF_OPEN -> {
+                halfOpenIssued = 0;
+                halfOpenSucceeded = 0;
+            }
+            case CLOSED -> {
+                recordedCalls = 0;
+                failedCalls = 0;
+                outcomeIndex = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.bespring.global.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시드 타이밍 휠 (Varghese & Lauck)
+ * 지연 작업을 tick 단위 슬롯에 넣어 등록/취소가 O(1)이며, tick마다 슬롯 하나만 확인합니다.
+ * 정밀도는 tick 크기이고, 만료된 작업은 휠 스레드가 아닌 전달받은 executor에서 실행됩니다.
+ */
+@Slf4j
+public class TimingWheel implements AutoCloseable {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Queue<Timeout>> slots;
+    // 다른 스레드의 등록 요청 (휠 스레드가 tick마다 슬롯으로 옮김)
+    private final Queue<Timeout> additions = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Executor executor;
+    private final ScheduledExecutorService ticker;
+    private final long startNanos = System.nanoTime();
+
+    // 휠 스레드에서만 접근
+    private long currentTick;
+
+    public TimingWheel(String name, long tickMillis, int wheelSize, Executor executor) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis and wheelSize must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.executor = executor;
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new ConcurrentLinkedQueue<>());
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public Timeout schedule(Runnable task, long delayMillis) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        long deadlineTick = (elapsedMillis + Math.max(0, delayMillis) + tickMillis - 1) / tickMillis;
+        Timeout timeout = new Timeout(task, deadlineTick);
+        additions.add(timeout);
+        pending.incrementAndGet();
+        return timeout;
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private void advance() {
+        try {
+            transferAdditions();
+            expire(slots.get((int) (currentTick % wheelSize)));
+            currentTick++;
+        } catch (Exception e) {
+            log.error("Timing wheel tick failed", e);
+        }
+    }
+
+    private void transferAdditions() {
+        Timeout timeout;
+        while ((timeout = additions.poll()) != null) {
+            if (timeout.cancelled) {
+                pending.decrementAndGet();
+                continue;
+            }
+            // 이미 지난 deadline은 현재 tick에서 실행
+            long ticks = Math.max(timeout.deadlineTick, currentTick);
+            timeout.remainingRounds = (ticks - currentTick) / wheelSize;
+            slots.get((int) (ticks % wheelSize)).add(timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout> slot) {
+        Iterator<Timeout> iterator = slot.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+                pending.decrementAndGet();
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            } else {
+                iterator.remove();
+                pending.decrementAndGet();
+                try {
+                    executor.execute(timeout.task);
+                } catch (Exception e) {
+                    log.warn("Failed to dispatch timing wheel task: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    public static class Timeout {
+
+        private final Runnable task;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+        private long remainingRounds;
+
+        private Timeout(Runnable task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
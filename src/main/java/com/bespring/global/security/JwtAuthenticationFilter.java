@@ -21,6 +21,8 @@ import java.util.ArrayList;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final JwtVerificationCache jwtVerificationCache;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -30,8 +32,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = extractTokenFromRequest(request);
 
-            if (token != null && jwtUtil.isTokenValid(token)) {
-                Long userId = jwtUtil.getUserIdFromToken(token);
+            // 토큰당 한 번만 검증 (최근 검증된 토큰은 캐시에서 바로 조회)
+            VerifiedToken verified = token != null ? jwtVerificationCache.verify(token) : null;
+
+            // 로그아웃된 토큰 거절 (로컬 Bloom filter 음성이면 네트워크 조회 없음)
+            if (verified != null && !tokenBlacklist.isRevoked(token)) {
+                Long userId = verified.getUserId();
 
                 if (userId != null) {
                     UserPrincipal userPrincipal = new UserPrincipal(userId);
@@ -54,6 +60,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return jwtUtil.extractTokenFromHeader(bearerToken);
     }
 
+    // 비동기 응답(CompletableFuture)의 ASYNC 디스패치에서도 인증 정보를 복원
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
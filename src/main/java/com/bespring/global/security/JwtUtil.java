@@ -15,11 +15,16 @@ public class JwtUtil {
 
     private final SecretKey key;
     private final long expiration;
+    // JwtParser는 불변/스레드 안전하므로 한 번만 생성하여 재사용
+    private final JwtParser parser;
 
     public JwtUtil(@Value("${jwt.secret}") String secret,
                    @Value("${jwt.expiration}") long expiration) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.expiration = expiration; // Already in milliseconds
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
     public String generateToken(Long userId) {
@@ -34,41 +39,31 @@ public class JwtUtil {
                 .compact();
     }
 
-    public Long getUserIdFromToken(String token) {
+    // 서명/만료를 한 번만 검증하고 사용자 ID와 만료 시각을 반환 (유효하지 않으면 null)
+    public VerifiedToken verify(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            return Long.valueOf(claims.getSubject());
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Date expiresAt = claims.getExpiration();
+            return new VerifiedToken(Long.valueOf(claims.getSubject()),
+                    expiresAt != null ? expiresAt.getTime() : Long.MAX_VALUE);
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
             return null;
         }
     }
 
+    public Long getUserIdFromToken(String token) {
+        VerifiedToken verified = verify(token);
+        return verified != null ? verified.getUserId() : null;
+    }
+
     public boolean isTokenValid(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
-        }
+        return verify(token) != null;
     }
 
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
 
             return claims.getExpiration().before(new Date());
         } catch (JwtException | IllegalArgumentException e) {
@@ -0,0 +1,96 @@
+package com.bespring.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 JWT 캐시 (SHA-256(token) → userId, exp)
+ * 자주 쓰이는 토큰은 서명 검증/클레임 파싱 없이 인증 정보를 얻습니다.
+ * 항목은 토큰 만료 시각(최대 max-ttl)에 맞춰 제거되며, 실패한 검증 결과는 캐시하지 않습니다.
+ */
+@Component
+public class JwtVerificationCache {
+
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public JwtVerificationCache(JwtUtil jwtUtil,
+                                @Value("${app.security.jwt-cache.enabled:true}") boolean enabled,
+                                @Value("${app.security.jwt-cache.max-size:10000}") long maxSize,
+                                @Value("${app.security.jwt-cache.max-ttl-seconds:600}") long maxTtlSeconds,
+                                MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        long maxTtlMillis = TimeUnit.SECONDS.toMillis(maxTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long remaining = value.getExpiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, Math.min(remaining, maxTtlMillis)));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.hitCounter = meterRegistry.counter("security.jwt.verifications", "result", "cache_hit");
+        this.missCounter = meterRegistry.counter("security.jwt.verifications", "result", "verified");
+    }
+
+    // 유효한 토큰이면 인증 정보, 아니면 null
+    public VerifiedToken verify(String token) {
+        if (!enabled) {
+            return jwtUtil.verify(token);
+        }
+
+        String digest = digest(token);
+        VerifiedToken cached = cache.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        VerifiedToken verified = jwtUtil.verify(token);
+        if (verified != null) {
+            cache.put(digest, verified);
+        }
+        return verified;
+    }
+
+    public void evict(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.bespring.global.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 로그아웃(폐기)된 토큰 블랙리스트
+ * - Redis 키: bl:{base64url(SHA-256(token) 앞 16바이트)}, TTL = 토큰 남은 수명
+ * - 각 노드는 폐기된 digest의 Bloom filter를 메모리에 유지하며 pub/sub(auth:blacklist)으로 동기화
+ * - Bloom filter에 없는 토큰(대부분의 요청)은 네트워크 조회 없이 통과, 양성인 경우만 Redis로 정확히 확인
+ * - Bloom filter는 삭제가 불가하므로 기동 시와 주기적으로 Redis에서 재구성하여 만료된 항목을 정리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenBlacklist implements MessageListener {
+
+    private static final String KEY_PREFIX = "bl:";
+    private static final String LEGACY_KEY_PREFIX = "blacklist:";
+    private static final String CHANNEL = "auth:blacklist";
+    private static final int DIGEST_BYTES = 16;
+
+    private final JwtUtil jwtUtil;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${app.security.blacklist.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${app.security.blacklist.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    // 재구성 중 들어온 폐기 항목이 새 필터에서 누락되지 않도록 함께 기록
+    private volatile BloomFilter rebuilding;
+
+    @PostConstruct
+    void init() {
+        filter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        migrateLegacyKeys();
+        rebuild();
+    }
+
+    // 토큰 폐기: 남은 수명만큼만 Redis에 보관하고 모든 노드의 Bloom filter에 반영
+    public void revoke(String token) {
+        VerifiedToken verified = jwtUtil.verify(token);
+        if (verified == null) {
+            // 이미 유효하지 않은 토큰은 블랙리스트가 필요 없음
+            return;
+        }
+
+        long remainingMillis = verified.getExpiresAtMillis() - System.currentTimeMillis();
+        if (remainingMillis <= 0) {
+            return;
+        }
+
+        byte[] digest = digest(token);
+        String encoded = encode(digest);
+        add(digest);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + encoded, "1", Duration.ofMillis(remainingMillis));
+            redisTemplate.convertAndSend(CHANNEL, encoded);
+        } catch (Exception e) {
+            log.warn("Redis is not available, token blacklisting only applied locally: {}", e.getMessage());
+        }
+    }
+
+    public boolean isRevoked(String token) {
+        byte[] digest = digest(token);
+        if (!filter.mightContain(digest)) {
+            return false;
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + encode(digest)));
+        } catch (Exception e) {
+            // Bloom 양성은 대부분 실제 폐기 토큰이므로 확인할 수 없을 때는 거절
+            log.warn("Redis is not available, treating bloom-positive token as revoked: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    // 만료된 항목을 정리하기 위해 Redis의 현재 블랙리스트로 필터를 다시 만듦
+    @Scheduled(fixedDelayString = "${app.security.blacklist.rebuild-interval-ms:3600000}",
+               initialDelayString = "${app.security.blacklist.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        BloomFilter next = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        rebuilding = next;
+        long count = 0;
+        try (Cursor<String> keys = redisTemplate.scan(
+                ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            while (keys.hasNext()) {
+                byte[] digest = decode(keys.next().substring(KEY_PREFIX.length()));
+                if (digest != null) {
+                    next.put(digest);
+                    count++;
+                }
+            }
+            filter = next;
+            log.info("Rebuilt token blacklist bloom filter: {} entries", count);
+        } catch (Exception e) {
+            log.warn("Redis is not available, token blacklist rebuild skipped: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        byte[] digest = decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (digest != null) {
+            add(digest);
+        }
+    }
+
+    private void add(byte[] digest) {
+        filter.put(digest);
+        BloomFilter pending = rebuilding;
+        if (pending != null) {
+            pending.put(digest);
+        }
+    }
+
+    // 기존 blacklist:{token} (고정 24시간) 키를 digest 키로 변환
+    private void migrateLegacyKeys() {
+        try (Cursor<String> keys = redisTemplate.scan(
+                ScanOptions.scanOptions().match(LEGACY_KEY_PREFIX + "*").count(1000).build())) {
+            while (keys.hasNext()) {
+                String legacyKey = keys.next();
+                Long ttlSeconds = redisTemplate.getExpire(legacyKey);
+                if (ttlSeconds != null && ttlSeconds > 0) {
+                    String encoded = encode(digest(legacyKey.substring(LEGACY_KEY_PREFIX.length())));
+                    redisTemplate.opsForValue().set(KEY_PREFIX + encoded, "1", Duration.ofSeconds(ttlSeconds));
+                }
+                redisTemplate.delete(legacyKey);
+            }
+        } catch (Exception e) {
+            log.warn("Redis is not available, legacy blacklist migration skipped: {}", e.getMessage());
+        }
+    }
+
+    private static byte[] digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Arrays.copyOf(hash, DIGEST_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String encode(byte[] digest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private static byte[] decode(String encoded) {
+        try {
+            byte[] digest = Base64.getUrlDecoder().decode(encoded);
+            return digest.length == DIGEST_BYTES ? digest : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.bespring.global.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 통과한 JWT의 인증 정보
+ * expiresAtMillis는 exp 클레임(epoch millis)이며, exp가 없으면 Long.MAX_VALUE입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private final Long userId;
+    private final long expiresAtMillis;
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
@@ -0,0 +1,42 @@
+package com.bespring.global.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션 완료 후 실행할 외부 상태(Redis, 로컬 타이머) 반영 등록
+ * 트랜잭션 밖에서 호출되면 afterCommit 작업은 즉시 실행되고 롤백 보상 작업은 실행되지 않습니다.
+ */
+public final class AfterTransaction {
+
+    private AfterTransaction() {
+    }
+
+    public static void commit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 커밋되지 않은 경우(롤백/알 수 없음) 보상 작업 실행
+    public static void rollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,63 @@
+-- 기준 스키마 (Flyway 도입 전 ddl-auto: update로 생성되던 엔티티 매핑과 동일)
+-- 기존 DB는 spring.flyway.baseline-on-migrate로 이 버전을 건너뛰고 V2부터 적용하므로 이후 변경은 V2 이상에 추가
+
+CREATE TABLE users (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    email           VARCHAR(100) NOT NULL,
+    password_hash   VARCHAR(255) NOT NULL,
+    nickname        VARCHAR(50),
+    points          INTEGER      NOT NULL,
+    selected_avatar VARCHAR(50),
+    created_at      DATETIME(6)  NOT NULL,
+    updated_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE user_alarms (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT      NOT NULL,
+    alarm_time   DATETIME(6) NOT NULL,
+    instructions TEXT,
+    voice        ENUM('ALLOY','ASH','BALLAD','CORAL','ECHO','SAGE','SHIMMER','VERSE') NOT NULL,
+    active       BIT         NOT NULL,
+    created_at   DATETIME(6) NOT NULL,
+    updated_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_user_alarms_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE call_logs (
+    id                BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id           BIGINT      NOT NULL,
+    call_start        DATETIME(6),
+    call_end          DATETIME(6),
+    result            ENUM('SUCCESS','FAIL_NO_TALK','FAIL_SNOOZE') NOT NULL,
+    snooze_count      INTEGER     NOT NULL,
+    conversation_data JSON,
+    created_at        DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_call_logs_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE mission_results (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    call_log_id  BIGINT      NOT NULL,
+    mission_type ENUM('PUZZLE','MATH','MEMORY','QUIZ') NOT NULL,
+    success      BIT         NOT NULL,
+    created_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_mission_results_call_log FOREIGN KEY (call_log_id) REFERENCES call_logs (id)
+);
+
+CREATE TABLE points_history (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT       NOT NULL,
+    type             ENUM('GRADE','CONSUMPTION') NOT NULL,
+    amount           INTEGER      NOT NULL,
+    description      VARCHAR(200),
+    related_alarm_id VARCHAR(100),
+    created_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_points_history_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
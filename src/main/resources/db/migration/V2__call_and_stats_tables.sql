@@ -0,0 +1,35 @@
+-- 통화/통계 확장 스키마 (기준 스키마 이후 추가된 테이블과 컬럼)
+
+-- call_logs: 바이너리 포맷 대화 내용 (레거시 conversation_data JSON은 백그라운드 마이그레이션 후 정리)
+ALTER TABLE call_logs ADD COLUMN conversation_blob MEDIUMBLOB;
+
+-- call_logs: 미종료 통화 스윕 (findStaleInProgress)
+CREATE INDEX idx_call_logs_result_start ON call_logs (result, call_start);
+
+-- call_utterances: 발화 단위 write-behind 저장 (call_log_id, seq 중복 시 무시)
+CREATE TABLE call_utterances (
+    call_log_id BIGINT      NOT NULL,
+    seq         INTEGER     NOT NULL,
+    speaker     VARCHAR(20),
+    content     TEXT,
+    spoken_at   DATETIME(6),
+    PRIMARY KEY (call_log_id, seq)
+);
+
+-- user_daily_stats: 사용자/일자별 통계 롤업 (통화 종료, 포인트 적립 시 갱신)
+CREATE TABLE user_daily_stats (
+    id                 BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id            BIGINT      NOT NULL,
+    stat_date          DATE        NOT NULL,
+    total_count        INTEGER     NOT NULL,
+    success_count      INTEGER     NOT NULL,
+    fail_no_talk_count INTEGER     NOT NULL,
+    fail_snooze_count  INTEGER     NOT NULL,
+    snooze_sum         INTEGER     NOT NULL,
+    wake_minute_sum    BIGINT      NOT NULL,
+    grade_points       INTEGER     NOT NULL,
+    updated_at         DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_daily_stats_user_date UNIQUE (user_id, stat_date),
+    CONSTRAINT fk_user_daily_stats_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
@@ -0,0 +1,28 @@
+-- 리포지토리 조회 패턴별 복합 인덱스
+-- 조건 컬럼을 앞에, 정렬/범위 컬럼을 뒤에 두고 집계에 쓰는 컬럼까지 포함해 테이블 접근 없이 처리
+
+-- call_logs: 사용자별 최신순 목록/건수 (findByUserOrderByCreatedAtDesc, countByUser)
+CREATE INDEX idx_call_logs_user_created ON call_logs (user_id, created_at, id);
+
+-- call_logs: 사용자별 통화 시작 범위/최근 통화 (findByUserAndCallStartBetween, findRecentByUser, countByUserAfterDate)
+-- result 포함으로 countSuccessByUserAfterDate도 커버
+CREATE INDEX idx_call_logs_user_start ON call_logs (user_id, call_start, result);
+
+-- call_logs: 사용자별 결과 조회 (countSuccessByUser, findAverageWakeTimeByUser, 진행 중 통화 조회)
+-- call_start 포함으로 평균 기상 시간 집계까지 커버
+CREATE INDEX idx_call_logs_user_result_start ON call_logs (user_id, result, call_start);
+
+-- points_history: 사용자+유형별 목록/합계 (findByUserAndType, sumAmountByUserIdAndType, sumDailyAmountByUserIdAndType)
+CREATE INDEX idx_points_history_user_type_created ON points_history (user_id, type, created_at, amount);
+
+-- points_history: 사용자별 최신순 목록/기간 조회 (findByUserOrderByCreatedAtDesc, findByUserAndDateRange)
+CREATE INDEX idx_points_history_user_created ON points_history (user_id, created_at, id);
+
+-- user_alarms: 알람 트리거용 시간대 조회 (findActiveAlarmsBetween)
+CREATE INDEX idx_user_alarms_active_time ON user_alarms (active, alarm_time);
+
+-- user_alarms: 사용자별 활성 알람 목록/개수/다음 알람 (findByUser_IdAndActive, findFirstByUser_IdAndActiveTrueAndAlarmTimeAfter)
+CREATE INDEX idx_user_alarms_user_active_time ON user_alarms (user_id, active, alarm_time);
+
+-- mission_results: 통화별 미션 조회 및 사용자별 집계 조인 (findByCallLogAndMissionType, countSuccessByUserIdAndMissionType)
+CREATE INDEX idx_mission_results_call_type ON mission_results (call_log_id, mission_type, success);
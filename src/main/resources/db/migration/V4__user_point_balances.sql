@@ -0,0 +1,13 @@
+-- 유형별 포인트 잔액을 users에 구체화 (points_history는 원장으로 유지)
+ALTER TABLE users ADD COLUMN consumption_balance INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN grade_balance INTEGER NOT NULL DEFAULT 0;
+
+-- 기존 원장 합계로 초기 잔액 채우기
+UPDATE users u SET
+    consumption_balance = COALESCE((SELECT SUM(p.amount) FROM points_history p
+                                    WHERE p.user_id = u.id AND p.type = 'CONSUMPTION'), 0),
+    grade_balance = COALESCE((SELECT SUM(p.amount) FROM points_history p
+                              WHERE p.user_id = u.id AND p.type = 'GRADE'), 0);
+
+-- 총 포인트를 유형별 잔액 합계와 일치시킴
+UPDATE users SET points = consumption_balance + grade_balance;
@@ -0,0 +1,12 @@
+-- points_history / call_logs / mission_results ID를 pooled 시퀀스로 전환 (allocationSize = 50)
+-- MySQL은 시퀀스가 없어 Hibernate가 next_val 한 행짜리 테이블로 에뮬레이션
+-- pooled 옵티마이저는 읽은 값 - 49부터 할당하므로 기존 최대 ID + 51에서 시작해 충돌 방지
+
+CREATE TABLE points_history_seq (next_val BIGINT);
+INSERT INTO points_history_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM points_history;
+
+CREATE TABLE call_logs_seq (next_val BIGINT);
+INSERT INTO call_logs_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM call_logs;
+
+CREATE TABLE mission_results_seq (next_val BIGINT);
+INSERT INTO mission_results_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM mission_results;
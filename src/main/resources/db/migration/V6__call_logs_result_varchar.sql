@@ -0,0 +1,3 @@
+-- call_logs.result: ENUM('SUCCESS','FAIL_NO_TALK','FAIL_SNOOZE') → VARCHAR(20)
+-- 진행 중 통화(IN_PROGRESS) 행을 저장하기 위함이며, 이후 결과 값이 추가되어도 컬럼 변경이 필요 없음
+ALTER TABLE call_logs MODIFY result VARCHAR(20) NOT NULL;
@@ -0,0 +1,70 @@
+package com.bespring.domain.call.codec;
+
+import com.bespring.domain.call.dto.Utterance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BinaryConversationCodec 테스트")
+class BinaryConversationCodecTest {
+
+    @Test
+    @DisplayName("바이너리 왕복 후 JSON 직렬화 결과가 동일")
+    void encodeDecode_ShouldPreserveJson() throws Exception {
+        // Given
+        List<Utterance> utterances = utterances(50);
+        utterances.add(new Utterance(null, null, null));
+        utterances.add(new Utterance("user", "마이크로초 보존", LocalDateTime.of(2024, 1, 15, 7, 31, 0, 123_456_000)));
+
+        // When
+        byte[] blob = BinaryConversationCodec.encode(utterances);
+        List<Utterance> decoded = BinaryConversationCodec.decode(blob);
+
+        // Then
+        assertEquals(ConversationCodec.encode(utterances), ConversationCodec.encode(decoded));
+        assertEquals(52, BinaryConversationCodec.count(blob));
+        assertEquals(BinaryConversationCodec.VERSION_1, blob[0]);
+    }
+
+    @Test
+    @DisplayName("바이너리 포맷이 레거시 JSON보다 작음")
+    void encode_ShouldBeSmallerThanJson() throws Exception {
+        // Given
+        List<Utterance> utterances = utterances(200);
+
+        // When
+        byte[] blob = BinaryConversationCodec.encode(utterances);
+        byte[] json = ConversationCodec.encode(utterances).getBytes(StandardCharsets.UTF_8);
+
+        // Then
+        assertTrue(blob.length * 3 < json.length, "blob=" + blob.length + ", json=" + json.length);
+    }
+
+    @Test
+    @DisplayName("마지막 N개 발화만 반환")
+    void lastN_ShouldReturnTail() throws Exception {
+        // Given
+        byte[] blob = BinaryConversationCodec.encode(utterances(10));
+
+        // When
+        List<Utterance> tail = BinaryConversationCodec.lastN(blob, 3);
+
+        // Then
+        assertEquals(List.of("text-7", "text-8", "text-9"), tail.stream().map(Utterance::getText).toList());
+    }
+
+    private List<Utterance> utterances(int size) {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 15, 7, 30, 0);
+        List<Utterance> utterances = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            utterances.add(new Utterance(i % 2 == 0 ? "assistant" : "user", "text-" + i, base.plusSeconds(i * 3L)));
+        }
+        return utterances;
+    }
+}
@@ -0,0 +1,94 @@
+package com.bespring.domain.call.codec;
+
+import com.bespring.domain.call.dto.Utterance;
+import com.bespring.domain.call.dto.request.TranscriptRequest;
+import com.bespring.global.exception.CustomException;
+import com.bespring.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConversationCodec 테스트")
+class ConversationCodecTest {
+
+    @Test
+    @DisplayName("timestamp를 포함한 발화 목록 인코딩/디코딩 왕복")
+    void encodeDecode_ShouldRoundTrip() throws Exception {
+        // Given
+        List<Utterance> utterances = utterances(3);
+
+        // When
+        String json = ConversationCodec.encode(utterances);
+
+        // Then
+        assertEquals(utterances, ConversationCodec.decode(json));
+        assertEquals(3, ConversationCodec.count(json));
+    }
+
+    @Test
+    @DisplayName("마지막 N개 발화만 순서대로 반환")
+    void lastN_ShouldReturnTailInOrder() throws Exception {
+        // Given
+        String json = ConversationCodec.encode(utterances(10));
+
+        // When
+        List<Utterance> tail = ConversationCodec.lastN(json, 2);
+
+        // Then
+        assertEquals(2, tail.size());
+        assertEquals("text-8", tail.get(0).getText());
+        assertEquals("text-9", tail.get(1).getText());
+    }
+
+    @Test
+    @DisplayName("비어 있는 데이터는 빈 결과로 처리")
+    void emptyData_ShouldReturnEmpty() throws Exception {
+        assertTrue(ConversationCodec.decode(null).isEmpty());
+        assertEquals(0, ConversationCodec.count(""));
+        assertTrue(ConversationCodec.lastN(null, 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("발화 수 제한을 초과한 요청은 파싱 중 거부")
+    void transcriptRequest_ShouldRejectTooManyUtterances() throws Exception {
+        // Given
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        String body = "{\"conversation\":" + ConversationCodec.encode(utterances(2001)) + "}";
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> mapper.readValue(body, TranscriptRequest.class));
+        assertEquals(ErrorCode.TRANSCRIPT_TOO_LARGE, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("제한 이내의 요청은 정상 파싱")
+    void transcriptRequest_ShouldParseWithinLimits() throws Exception {
+        // Given
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        List<Utterance> utterances = utterances(5);
+        String body = "{\"conversation\":" + ConversationCodec.encode(utterances) + ",\"unknown\":{\"a\":1}}";
+
+        // When
+        TranscriptRequest request = mapper.readValue(body, TranscriptRequest.class);
+
+        // Then
+        assertEquals(utterances, request.getConversation());
+    }
+
+    private List<Utterance> utterances(int size) {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 15, 7, 30, 0);
+        List<Utterance> utterances = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            utterances.add(new Utterance(i % 2 == 0 ? "assistant" : "user", "text-" + i, base.plusSeconds(i)));
+        }
+        return utterances;
+    }
+}
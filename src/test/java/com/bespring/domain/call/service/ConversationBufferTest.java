@@ -0,0 +1,188 @@
+package com.bespring.domain.call.service;
+
+import com.bespring.domain.call.buffer.ConversationBufferStore;
+import com.bespring.domain.call.buffer.ConversationBufferUnavailableException;
+import com.bespring.domain.call.buffer.LocalConversationBufferStore;
+import com.bespring.domain.call.buffer.SequencedUtterance;
+import com.bespring.domain.call.dto.Utterance;
+import com.bespring.global.exception.CustomException;
+import com.bespring.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConversationBuffer 테스트")
+class ConversationBufferTest {
+
+    @Test
+    @DisplayName("동시 추가된 발화가 유실 없이 저장소에 기록")
+    void concurrentAppends_ShouldNotLoseUtterances() throws Exception {
+        // Given
+        LocalConversationBufferStore store = new LocalConversationBufferStore();
+        ConversationBuffer buffer = createBuffer(store);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 250; i++) {
+                    buffer.addUserUtterance("session-1", "text-" + i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(1000, buffer.getConversationList("session-1").size());
+        assertEquals(1000, store.size("session-1"));
+    }
+
+    @Test
+    @DisplayName("저장소 기록 실패 시 발화를 로컬에 유지하고 순서대로 재기록")
+    void flushFailure_ShouldKeepUtterancesInOrder() {
+        // Given
+        LocalConversationBufferStore delegate = new LocalConversationBufferStore();
+        AtomicBoolean available = new AtomicBoolean(false);
+        ConversationBuffer buffer = createBuffer(new FlakyStore(delegate, available));
+
+        buffer.addAssistantUtterance("session-2", "first");
+        assertFalse(buffer.flush("session-2"));
+        buffer.addUserUtterance("session-2", "second");
+
+        // When
+        available.set(true);
+        List<Utterance> conversation = buffer.getConversationList("session-2");
+
+        // Then
+        assertEquals(List.of("first", "second"), conversation.stream().map(Utterance::getText).toList());
+    }
+
+    @Test
+    @DisplayName("저장소를 사용할 수 없으면 일부 발화 대신 예외를 던지고 로컬 발화는 유지")
+    void storeUnavailable_ShouldNotReturnPartialConversation() {
+        // Given
+        LocalConversationBufferStore delegate = new LocalConversationBufferStore();
+        AtomicBoolean available = new AtomicBoolean(true);
+        ConversationBuffer buffer = createBuffer(new FlakyStore(delegate, available));
+        buffer.addAssistantUtterance("session-3", "first");
+        assertTrue(buffer.flush("session-3"));
+        buffer.addUserUtterance("session-3", "second");
+
+        // When
+        available.set(false);
+
+        // Then
+        assertThrows(ConversationBufferUnavailableException.class, () -> buffer.getConversationList("session-3"));
+        available.set(true);
+        assertEquals(List.of("first", "second"),
+                buffer.getConversationList("session-3").stream().map(Utterance::getText).toList());
+    }
+
+    @Test
+    @DisplayName("길이 제한으로 앞쪽 발화가 제거되어도 seq가 유지되고 지정한 seq 이후만 조회")
+    void trimmedStore_ShouldKeepSequenceNumbers() {
+        // Given (LocalConversationBufferStore 기본 max-len 2000)
+        LocalConversationBufferStore store = new LocalConversationBufferStore();
+        ConversationBuffer buffer = createBuffer(store);
+        for (int i = 0; i < 2010; i++) {
+            buffer.addUserUtterance("session-4", "text-" + i);
+        }
+
+        // When
+        List<SequencedUtterance> fromStart = buffer.getConversationFrom("session-4", 0);
+        List<SequencedUtterance> tail = buffer.getConversationFrom("session-4", 2005);
+
+        // Then
+        assertEquals(10, fromStart.get(0).seq());
+        assertEquals("text-10", fromStart.get(0).utterance().getText());
+        assertEquals(List.of(2005L, 2006L, 2007L, 2008L, 2009L), tail.stream().map(SequencedUtterance::seq).toList());
+        assertEquals("text-2009", tail.get(4).utterance().getText());
+        assertEquals(2010, buffer.getTotalAppended("session-4"));
+    }
+
+    @Test
+    @DisplayName("저장소 장애 중 대기 발화가 메모리 상한을 넘으면 새 발화를 거부")
+    void storeUnavailable_ShouldBoundPendingBytes() {
+        // Given
+        LocalConversationBufferStore delegate = new LocalConversationBufferStore();
+        AtomicBoolean available = new AtomicBoolean(false);
+        ConversationBuffer buffer = createBuffer(new FlakyStore(delegate, available));
+        ReflectionTestUtils.setField(buffer, "maxPendingBytes", 4096L);
+        ReflectionTestUtils.setField(buffer, "retryBackoffMs", 60_000L);
+
+        buffer.addUserUtterance("session-5", "first");
+        assertFalse(buffer.flush("session-5"));
+
+        // When
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            for (int i = 0; i < 1000; i++) {
+                buffer.addUserUtterance("session-5", "text-" + i);
+            }
+        });
+
+        // Then
+        assertEquals(ErrorCode.CONVERSATION_BUFFER_FULL, exception.getErrorCode());
+        available.set(true);
+        List<Utterance> conversation = buffer.getConversationList("session-5");
+        assertEquals("first", conversation.get(0).getText());
+        assertTrue(conversation.size() < 1000);
+    }
+
+    private ConversationBuffer createBuffer(ConversationBufferStore store) {
+        ConversationBuffer buffer = new ConversationBuffer(new ObjectMapper(), store, new SimpleMeterRegistry());
+        buffer.init();
+        return buffer;
+    }
+
+    private record FlakyStore(ConversationBufferStore delegate, AtomicBoolean available) implements ConversationBufferStore {
+
+        @Override
+        public void append(String sessionId, List<Utterance> utterances) {
+            if (!available.get()) {
+                throw new IllegalStateException("store unavailable");
+            }
+            delegate.append(sessionId, utterances);
+        }
+
+        @Override
+        public List<Utterance> read(String sessionId) {
+            return delegate.read(sessionId);
+        }
+
+        @Override
+        public List<SequencedUtterance> readFrom(String sessionId, long fromSeq) {
+            return delegate.readFrom(sessionId, fromSeq);
+        }
+
+        @Override
+        public long nextSeq(String sessionId) {
+            return delegate.nextSeq(sessionId);
+        }
+
+        @Override
+        public long size(String sessionId) {
+            return delegate.size(sessionId);
+        }
+
+        @Override
+        public boolean exists(String sessionId) {
+            return delegate.exists(sessionId);
+        }
+
+        @Override
+        public void delete(String sessionId) {
+            delegate.delete(sessionId);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.bespring.domain.realtime.benchmark;
+
+import com.bespring.domain.alarm.dto.AlarmSnapshot;
+import com.bespring.domain.alarm.entity.VoiceType;
+import com.bespring.domain.alarm.service.AlarmSnapshotCache;
+import com.bespring.domain.call.service.CallSnoozeStateCache;
+import com.bespring.global.security.JwtUtil;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * /api/realtime/session 부하 벤치마크 (느린 OpenAI 스텁 업스트림)
+ * 플랫폼 스레드/가상 스레드 하위 클래스가 같은 시나리오를 실행하고 p50/p99, 처리량, 최대 동시성을 출력합니다.
+ * 실행: ./gradlew loadBenchmark -PjavaVersion=21
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+abstract class AbstractRealtimeSessionLoadBenchmark {
+
+    static final int UPSTREAM_DELAY_MS = 300;
+    static final int CONCURRENCY = 400;
+    static final int TOTAL_REQUESTS = 4000;
+    static final int TOMCAT_MAX_THREADS = 50;
+
+    private static final String SESSION_JSON =
+            "{\"id\":\"sess_bench\",\"client_secret\":{\"value\":\"eph_bench\",\"expires_at\":1700000000}}";
+
+    private static HttpServer upstream;
+    private static final AtomicInteger upstreamInFlight = new AtomicInteger();
+    private static final AtomicInteger upstreamMaxInFlight = new AtomicInteger();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private AlarmSnapshotCache alarmSnapshotCache;
+
+    @MockBean
+    private CallSnoozeStateCache callSnoozeStateCache;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        startUpstream();
+        registry.add("openai.api.url",
+                () -> "http://127.0.0.1:" + upstream.getAddress().getPort() + "/v1/realtime/sessions");
+        registry.add("app.http.openai.max-concurrent-requests", () -> 100_000);
+        registry.add("server.tomcat.threads.max", () -> TOMCAT_MAX_THREADS);
+    }
+
+    abstract String mode();
+
+    @Test
+    void createSessionUnderLoad() throws Exception {
+        given(alarmSnapshotCache.get(anyLong(), anyLong())).willAnswer(invocation -> new AlarmSnapshot(
+                invocation.getArgument(1), invocation.getArgument(0), LocalDateTime.now().plusMinutes(1),
+                "부드럽게 깨워주세요", VoiceType.ALLOY, true));
+
+        String token = jwtUtil.generateToken(1L);
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        // 워밍업
+        runLoad(client, token, CONCURRENCY, CONCURRENCY);
+        upstreamMaxInFlight.set(0);
+
+        long started = System.nanoTime();
+        LoadResult result = runLoad(client, token, CONCURRENCY, TOTAL_REQUESTS);
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        long[] latencies = result.latenciesMicros();
+        Arrays.sort(latencies);
+        System.out.printf(
+                "[realtime-session-benchmark] mode=%s requests=%d concurrency=%d upstreamDelay=%dms tomcatMaxThreads=%d%n"
+                        + "  throughput=%.1f req/s p50=%.1fms p99=%.1fms max=%.1fms errors=%d%n"
+                        + "  maxUpstreamConcurrency=%d peakJvmThreads=%d%n",
+                mode(), TOTAL_REQUESTS, CONCURRENCY, UPSTREAM_DELAY_MS, TOMCAT_MAX_THREADS,
+                TOTAL_REQUESTS / elapsedSeconds,
+                percentile(latencies, 0.50) / 1000.0,
+                percentile(latencies, 0.99) / 1000.0,
+                latencies[latencies.length - 1] / 1000.0,
+                result.errors().get(),
+                upstreamMaxInFlight.get(),
+                ManagementFactory.getThreadMXBean().getPeakThreadCount());
+
+        assertEquals(0, result.errors().get());
+    }
+
+    private LoadResult runLoad(HttpClient client, String token, int concurrency, int total) throws InterruptedException {
+        long[] latencies = new long[total];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore permits = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(total);
+
+        for (int i = 0; i < total; i++) {
+            permits.acquire();
+            int index = i;
+            // 요청마다 alarmId를 달리하여 in-flight 병합(coalescing) 없이 업스트림까지 도달
+            HttpRequest request = HttpRequest.newBuilder(URI.create(
+                            "http://127.0.0.1:" + port + "/api/realtime/session?alarmId=" + (i + 1) + "&snoozeCount=1"))
+                    .header("Authorization", "Bearer " + token)
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            long start = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, ex) -> {
+                        latencies[index] = (System.nanoTime() - start) / 1000;
+                        if (ex != null || response.statusCode() != 201) {
+                            errors.incrementAndGet();
+                        }
+                        permits.release();
+                        done.countDown();
+                    });
+        }
+
+        done.await(5, TimeUnit.MINUTES);
+        return new LoadResult(latencies, errors);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    // 응답을 지연 스케줄러로 보내 스텁 자체가 스레드 병목이 되지 않도록 함
+    private static synchronized void startUpstream() throws IOException {
+        if (upstream != null) {
+            return;
+        }
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        upstream.setExecutor(Executors.newFixedThreadPool(8));
+        upstream.createContext("/v1/realtime/sessions", exchange -> {
+            upstreamMaxInFlight.accumulateAndGet(upstreamInFlight.incrementAndGet(), Math::max);
+            exchange.getRequestBody().readAllBytes();
+            scheduler.schedule(() -> {
+                try (OutputStream os = exchange.getResponseBody()) {
+                    byte[] body = SESSION_JSON.getBytes(StandardCharsets.UTF_8);
+                    exchange.sendResponseHeaders(200, body.length);
+                    os.write(body);
+                } catch (IOException ignore) {
+                    // 클라이언트 연결 종료
+                } finally {
+                    upstreamInFlight.decrementAndGet();
+                    exchange.close();
+                }
+            }, UPSTREAM_DELAY_MS, TimeUnit.MILLISECONDS);
+        });
+        upstream.start();
+    }
+
+    private record LoadResult(long[] latenciesMicros, AtomicInteger errors) {
+    }
+}
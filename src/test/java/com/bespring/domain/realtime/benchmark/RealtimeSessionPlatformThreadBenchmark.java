@@ -0,0 +1,12 @@
+package com.bespring.domain.realtime.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class RealtimeSessionPlatformThreadBenchmark extends AbstractRealtimeSessionLoadBenchmark {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,153 @@
+package com.bespring.domain.realtime.client;
+
+import com.bespring.domain.realtime.dto.SessionResponse;
+import com.bespring.global.exception.CustomException;
+import com.bespring.global.exception.ErrorCode;
+import com.bespring.global.resilience.CircuitBreaker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OpenAIRealtimeClient 테스트 (로컬 스텁 서버)")
+class OpenAIRealtimeClientTest {
+
+    private static final String SESSION_JSON =
+            "{\"id\":\"sess_123\",\"client_secret\":{\"value\":\"eph_abc\",\"expires_at\":1700000000}}";
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile int responseStatus = 200;
+    private volatile CountDownLatch responseGate;
+
+    private OpenAIRealtimeClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/realtime/sessions", exchange -> {
+            requestCount.incrementAndGet();
+            try {
+                if (responseGate != null) {
+                    responseGate.await(5, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = (responseStatus == 200 ? SESSION_JSON : "{\"error\":\"stub\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        client = new OpenAIRealtimeClient(httpClient, new ObjectMapper(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(client, "openaiApiKey", "test_key");
+        ReflectionTestUtils.setField(client, "openaiApiUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/realtime/sessions");
+        ReflectionTestUtils.setField(client, "readTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(client, "maxConcurrentRequests", 1);
+        ReflectionTestUtils.setField(client, "circuitWindowSize", 10);
+        ReflectionTestUtils.setField(client, "circuitMinimumCalls", 3);
+        ReflectionTestUtils.setField(client, "circuitFailureRateThreshold", 0.5);
+        ReflectionTestUtils.setField(client, "circuitOpenDurationSeconds", 60L);
+        ReflectionTestUtils.setField(client, "circuitHalfOpenPermits", 1);
+        client.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("성공 응답에서 세션 정보를 파싱")
+    void createSession_ShouldParseSession() {
+        // When
+        SessionResponse session = client.createSession("alloy", "깨워주세요").join();
+
+        // Then
+        assertEquals("sess_123", session.getSessionId());
+        assertEquals("eph_abc", session.getEphemeralKey());
+        assertEquals(1700000000L, session.getExpiresInSeconds());
+    }
+
+    @Test
+    @DisplayName("5xx가 누적되면 서킷이 열리고 업스트림 호출 없이 즉시 실패")
+    void createSession_ShouldFailFastWhenCircuitOpen() {
+        // Given
+        responseStatus = 503;
+        for (int i = 0; i < 3; i++) {
+            CompletionException e = assertThrows(CompletionException.class,
+                    () -> client.createSession("alloy", "깨워주세요").join());
+            assertInstanceOf(HttpServerErrorException.class, e.getCause());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+
+        // When
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> client.createSession("alloy", "깨워주세요").join());
+
+        // Then
+        assertEquals(ErrorCode.OPENAI_CIRCUIT_OPEN, ((CustomException) e.getCause()).getErrorCode());
+        assertEquals(3, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("4xx(429 제외)는 요청 문제이므로 서킷에 실패로 기록하지 않음")
+    void createSession_ClientErrorShouldNotOpenCircuit() {
+        // Given
+        responseStatus = 400;
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            CompletionException e = assertThrows(CompletionException.class,
+                    () -> client.createSession("alloy", "깨워주세요").join());
+            assertInstanceOf(HttpClientErrorException.class, e.getCause());
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+    }
+
+    @Test
+    @DisplayName("동시 요청 상한을 넘으면 bulkhead가 즉시 거절")
+    void createSession_ShouldRejectWhenBulkheadFull() {
+        // Given
+        responseGate = new CountDownLatch(1);
+        CompletableFuture<SessionResponse> first = client.createSession("alloy", "깨워주세요");
+
+        // When
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> client.createSession("alloy", "깨워주세요").join());
+
+        // Then
+        assertEquals(ErrorCode.OPENAI_TOO_MANY_REQUESTS, ((CustomException) e.getCause()).getErrorCode());
+
+        responseGate.countDown();
+        assertEquals("sess_123", first.join().getSessionId());
+    }
+}
@@ -1,5 +1,6 @@
 package com.bespring.domain.user.entity;
 
+import com.bespring.domain.points.entity.PointsHistory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,55 +24,15 @@ class UserTest {
     }
 
     @Test
-    @DisplayName("포인트 추가 테스트")
-    void addPoints_ShouldIncreasePoints() {
+    @DisplayName("유형별 잔액 조회 테스트")
+    void getBalance_ShouldReturnBalanceOfType() {
         // Given
-        int initialPoints = user.getPoints();
-        int pointsToAdd = 50;
-
-        // When
-        user.addPoints(pointsToAdd);
-
-        // Then
-        assertEquals(initialPoints + pointsToAdd, user.getPoints());
-    }
-
-    @Test
-    @DisplayName("포인트 차감 테스트 - 충분한 포인트가 있는 경우")
-    void subtractPoints_WithSufficientPoints_ShouldDecreasePoints() {
-        // Given
-        int initialPoints = user.getPoints();
-        int pointsToSubtract = 30;
-
-        // When
-        user.subtractPoints(pointsToSubtract);
-
-        // Then
-        assertEquals(initialPoints - pointsToSubtract, user.getPoints());
-    }
-
-    @Test
-    @DisplayName("포인트 차감 테스트 - 포인트가 부족한 경우")
-    void subtractPoints_WithInsufficientPoints_ShouldThrowException() {
-        // Given
-        int pointsToSubtract = user.getPoints() + 10;
+        user.setConsumptionBalance(70);
+        user.setGradeBalance(30);
 
         // When & Then
-        assertThrows(IllegalArgumentException.class, () -> user.subtractPoints(pointsToSubtract));
-        assertEquals(100, user.getPoints()); // 포인트가 변경되지 않아야 함
-    }
-
-    @Test
-    @DisplayName("포인트 차감 테스트 - 정확히 같은 포인트를 차감하는 경우")
-    void subtractPoints_WithExactPoints_ShouldSetPointsToZero() {
-        // Given
-        int pointsToSubtract = user.getPoints();
-
-        // When
-        user.subtractPoints(pointsToSubtract);
-
-        // Then
-        assertEquals(0, user.getPoints());
+        assertEquals(70, user.getBalance(PointsHistory.PointType.CONSUMPTION));
+        assertEquals(30, user.getBalance(PointsHistory.PointType.GRADE));
     }
 
     @Test
@@ -86,6 +47,8 @@ class UserTest {
 
         // Then
         assertEquals(0, newUser.getPoints());
+        assertEquals(0, newUser.getConsumptionBalance());
+        assertEquals(0, newUser.getGradeBalance());
         assertEquals("avatar_1", newUser.getSelectedAvatar());
     }
 }
\ No newline at end of file
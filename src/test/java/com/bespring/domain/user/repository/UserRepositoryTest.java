@@ -0,0 +1,141 @@
+package com.bespring.domain.user.repository;
+
+import com.bespring.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 유형별 잔액 조건부 UPDATE 테스트 (적립/차감 시 총 포인트가 두 잔액의 합으로 유지되는지 확인)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("UserRepository 잔액 UPDATE 테스트")
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.saveAndFlush(User.builder()
+                .email("balance@example.com")
+                .passwordHash("hashedPassword")
+                .nickname("balanceUser")
+                .points(100)
+                .consumptionBalance(70)
+                .gradeBalance(30)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("소비 포인트 적립 - 소비 잔액과 총 포인트 증가")
+    void creditConsumptionBalance_ShouldIncreaseBalanceAndPoints() {
+        // When
+        int updated = userRepository.creditConsumptionBalance(userId, 50);
+
+        // Then
+        User user = userRepository.findById(userId).orElseThrow();
+        assertEquals(1, updated);
+        assertEquals(120, user.getConsumptionBalance());
+        assertEquals(30, user.getGradeBalance());
+        assertEquals(150, user.getPoints());
+    }
+
+    @Test
+    @DisplayName("등급 포인트 적립 - 등급 잔액과 총 포인트 증가")
+    void creditGradeBalance_ShouldIncreaseBalanceAndPoints() {
+        // When
+        int updated = userRepository.creditGradeBalance(userId, 20);
+
+        // Then
+        User user = userRepository.findById(userId).orElseThrow();
+        assertEquals(1, updated);
+        assertEquals(70, user.getConsumptionBalance());
+        assertEquals(50, user.getGradeBalance());
+        assertEquals(120, user.getPoints());
+    }
+
+    @Test
+    @DisplayName("소비 포인트 차감 - 잔액이 충분한 경우")
+    void debitConsumptionBalance_WithSufficientBalance_ShouldDecrease() {
+        // When
+        int updated = userRepository.debitConsumptionBalance(userId, 70);
+
+        // Then
+        User user = userRepository.findById(userId).orElseThrow();
+        assertEquals(1, updated);
+        assertEquals(0, user.getConsumptionBalance());
+        assertEquals(30, user.getPoints());
+    }
+
+    @Test
+    @DisplayName("소비 포인트 차감 - 해당 유형 잔액이 부족하면 변경하지 않음")
+    void debitConsumptionBalance_WithInsufficientBalance_ShouldNotUpdate() {
+        // When (총 포인트는 충분하지만 소비 잔액은 부족)
+        int updated = userRepository.debitConsumptionBalance(userId, 80);
+
+        // Then
+        User user = userRepository.findById(userId).orElseThrow();
+        assertEquals(0, updated);
+        assertEquals(70, user.getConsumptionBalance());
+        assertEquals(100, user.getPoints());
+    }
+
+    @Test
+    @DisplayName("등급 포인트 차감 - 해당 유형 잔액이 부족하면 변경하지 않음")
+    void debitGradeBalance_WithInsufficientBalance_ShouldNotUpdate() {
+        // When
+        int updated = userRepository.debitGradeBalance(userId, 31);
+
+        // Then
+        User user = userRepository.findById(userId).orElseThrow();
+        assertEquals(0, updated);
+        assertEquals(30, user.getGradeBalance());
+        assertEquals(100, user.getPoints());
+    }
+
+    @Test
+    @DisplayName("없는 사용자 차감 - 변경된 행 없음")
+    void debitGradeBalance_WithUnknownUser_ShouldNotUpdate() {
+        // When & Then
+        assertEquals(0, userRepository.debitGradeBalance(userId + 1, 1));
+    }
+
+    @Test
+    @DisplayName("잔액 보정 - 원장 합계로 교체하고 총 포인트도 맞춤")
+    void repairBalances_WithUnchangedBalances_ShouldRewriteBalancesAndPoints() {
+        // When
+        int updated = userRepository.repairBalances(userId, 60, 25, 70, 30);
+
+        // Then
+        User user = userRepository.findById(userId).orElseThrow();
+        assertEquals(1, updated);
+        assertEquals(60, user.getConsumptionBalance());
+        assertEquals(25, user.getGradeBalance());
+        assertEquals(85, user.getPoints());
+    }
+
+    @Test
+    @DisplayName("잔액 보정 - 조회 이후 잔액이 바뀌었으면 변경하지 않음")
+    void repairBalances_WithChangedBalances_ShouldNotUpdate() {
+        // Given
+        userRepository.creditGradeBalance(userId, 10);
+
+        // When
+        int updated = userRepository.repairBalances(userId, 60, 25, 70, 30);
+
+        // Then
+        User user = userRepository.findById(userId).orElseThrow();
+        assertEquals(0, updated);
+        assertEquals(40, user.getGradeBalance());
+        assertEquals(110, user.getPoints());
+    }
+}
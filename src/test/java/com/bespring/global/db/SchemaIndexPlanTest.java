@@ -0,0 +1,452 @@
+package com.bespring.global.db;
+
+import com.bespring.domain.alarm.repository.UserAlarmRepository;
+import com.bespring.domain.call.entity.CallLog;
+import com.bespring.domain.call.repository.CallLogRepository;
+import com.bespring.domain.call.repository.CallUtteranceRepository;
+import com.bespring.domain.mission.entity.MissionResult;
+import com.bespring.domain.mission.repository.MissionResultRepository;
+import com.bespring.domain.points.entity.PointsHistory;
+import com.bespring.domain.points.repository.PointsHistoryRepository;
+import com.bespring.domain.statistics.repository.UserDailyStatsRepository;
+import com.bespring.domain.user.entity.User;
+import com.bespring.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 마이그레이션으로 만든 스키마에서 리포지토리 조회가 인덱스를 타는지 확인
+ * 각 리포지토리 메서드를 실제로 호출하여 Hibernate가 실행한 SQL과 바인딩 값을 기록하고,
+ * 같은 SQL의 EXPLAIN 결과(H2 MySQL 호환 모드)에 tableScan이 있으면 실패합니다. (Page 조회의 COUNT 쿼리 포함)
+ * 제외: UserRepository.findAllIds(전체 사용자 순회용), existsByNickname(가입 시 1회, 인덱스 없음)
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("스키마 인덱스 실행 계획 테스트")
+class SchemaIndexPlanTest {
+
+    private static final String URL = "jdbc:h2:mem:schema_plan;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private static final Long USER_ID = 7L;
+    private static final Long CALL_LOG_ID = 42L;
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+    private static final Pageable CURSOR_PAGE = PageRequest.of(0, 21);
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 2, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final LocalDateTime CURSOR_AT = LocalDateTime.of(2025, 3, 15, 12, 0);
+    private static final Long CURSOR_ID = 3000L;
+
+    private static boolean seeded;
+
+    @Autowired
+    private RecordingDataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CallLogRepository callLogRepository;
+    @Autowired
+    private CallUtteranceRepository callUtteranceRepository;
+    @Autowired
+    private PointsHistoryRepository pointsHistoryRepository;
+    @Autowired
+    private UserAlarmRepository userAlarmRepository;
+    @Autowired
+    private MissionResultRepository missionResultRepository;
+    @Autowired
+    private UserDailyStatsRepository userDailyStatsRepository;
+
+    @TestConfiguration
+    static class RecordingDataSourceConfig {
+
+        @Bean
+        RecordingDataSource dataSource() {
+            return new RecordingDataSource(new DriverManagerDataSource(URL, "sa", ""));
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        seeded = true;
+
+        // 옵티마이저가 선택도를 계산할 수 있도록 사용자 100명 기준 데이터 적재 후 통계 갱신
+        jdbcTemplate.execute("INSERT INTO users (id, email, password_hash, nickname, points, selected_avatar, created_at, updated_at) " +
+                "SELECT X, CONCAT('user', X, '@test.com'), 'hash', CONCAT('nick', X), 0, 'avatar_1', NOW(), NOW() " +
+                "FROM SYSTEM_RANGE(1, 100)");
+        jdbcTemplate.execute("INSERT INTO call_logs (id, user_id, call_start, call_end, result, snooze_count, created_at) " +
+                "SELECT X, MOD(X, 100) + 1, DATEADD('MINUTE', X * 30, TIMESTAMP '2025-01-01 06:00:00'), " +
+                "DATEADD('MINUTE', X * 30 + 5, TIMESTAMP '2025-01-01 06:00:00'), " +
+                "CASE MOD(X, 4) WHEN 0 THEN 'FAIL_NO_TALK' WHEN 1 THEN 'FAIL_SNOOZE' ELSE 'SUCCESS' END, MOD(X, 3), " +
+                "DATEADD('MINUTE', X * 30, TIMESTAMP '2025-01-01 06:00:00') FROM SYSTEM_RANGE(1, 5000)");
+        jdbcTemplate.execute("INSERT INTO mission_results (call_log_id, mission_type, success, created_at) " +
+                "SELECT X, CASE MOD(X, 4) WHEN 0 THEN 'PUZZLE' WHEN 1 THEN 'MATH' WHEN 2 THEN 'MEMORY' ELSE 'QUIZ' END, " +
+                "MOD(X, 2) = 0, DATEADD('MINUTE', X * 30 + 5, TIMESTAMP '2025-01-01 06:00:00') FROM SYSTEM_RANGE(1, 5000)");
+        jdbcTemplate.execute("INSERT INTO points_history (user_id, type, amount, description, created_at) " +
+                "SELECT MOD(X, 100) + 1, CASE MOD(X, 3) WHEN 0 THEN 'CONSUMPTION' ELSE 'GRADE' END, " +
+                "CASE MOD(X, 3) WHEN 0 THEN -10 ELSE 10 END, 'seed', DATEADD('HOUR', X, TIMESTAMP '2025-01-01 00:00:00') " +
+                "FROM SYSTEM_RANGE(1, 5000)");
+        jdbcTemplate.execute("INSERT INTO user_alarms (user_id, alarm_time, voice, active, created_at, updated_at) " +
+                "SELECT MOD(X, 100) + 1, DATEADD('MINUTE', X * 17, TIMESTAMP '2025-01-01 05:00:00'), 'ALLOY', " +
+                "MOD(X, 5) <> 0, NOW(), NOW() FROM SYSTEM_RANGE(1, 3000)");
+        jdbcTemplate.execute("INSERT INTO call_utterances (call_log_id, seq, speaker, content, spoken_at) " +
+                "SELECT (X - 1) / 10 + 1, MOD(X - 1, 10), CASE MOD(X, 2) WHEN 0 THEN 'user' ELSE 'assistant' END, " +
+                "CONCAT('text-', X), DATEADD('SECOND', X, TIMESTAMP '2025-01-01 06:00:00') FROM SYSTEM_RANGE(1, 20000)");
+        jdbcTemplate.execute("INSERT INTO user_daily_stats (user_id, stat_date, total_count, success_count, fail_no_talk_count, " +
+                "fail_snooze_count, snooze_sum, wake_minute_sum, grade_points, updated_at) " +
+                "SELECT MOD(X - 1, 100) + 1, DATEADD('DAY', (X - 1) / 100, DATE '2025-01-01'), 2, 1, 1, 0, 1, 420, 10, NOW() " +
+                "FROM SYSTEM_RANGE(1, 10000)");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                // CallLogRepository
+                query("CallLog.findByUserOrderByCreatedAtDesc",
+                        t -> t.callLogRepository.findByUserOrderByCreatedAtDesc(t.user(), PAGE)),
+                query("CallLog.findByUserAndCallStartBetweenOrderByCreatedAtDesc",
+                        t -> t.callLogRepository.findByUserAndCallStartBetweenOrderByCreatedAtDesc(t.user(), FROM, TO, PAGE)),
+                query("CallLog.findByUserWithUserOrderByCreatedAtDesc",
+                        t -> t.callLogRepository.findByUserWithUserOrderByCreatedAtDesc(t.user(), PAGE)),
+                query("CallLog.findByUserAndCallStartBetweenWithUserOrderByCreatedAtDesc",
+                        t -> t.callLogRepository.findByUserAndCallStartBetweenWithUserOrderByCreatedAtDesc(t.user(), FROM, TO, PAGE)),
+                query("CallLog.findByUserIdBeforeCursor",
+                        t -> t.callLogRepository.findByUserIdBeforeCursor(USER_ID, CURSOR_AT, CURSOR_ID, CURSOR_PAGE)),
+                query("CallLog.findByUserIdAndCallStartBetweenBeforeCursor",
+                        t -> t.callLogRepository.findByUserIdAndCallStartBetweenBeforeCursor(
+                                USER_ID, FROM, TO, CURSOR_AT, CURSOR_ID, CURSOR_PAGE)),
+                query("CallLog.findByUserAndCallStartBetween",
+                        t -> t.callLogRepository.findByUserAndCallStartBetween(t.user(), FROM, TO)),
+                query("CallLog.countByUser", t -> t.callLogRepository.countByUser(t.user())),
+                query("CallLog.countByUser_Id", t -> t.callLogRepository.countByUser_Id(USER_ID)),
+                query("CallLog.countByUser_IdAndCallStartBetween",
+                        t -> t.callLogRepository.countByUser_IdAndCallStartBetween(USER_ID, FROM, TO)),
+                query("CallLog.countSuccessByUser", t -> t.callLogRepository.countSuccessByUser(t.user())),
+                query("CallLog.countByUserAfterDate", t -> t.callLogRepository.countByUserAfterDate(t.user(), FROM)),
+                query("CallLog.countSuccessByUserAfterDate",
+                        t -> t.callLogRepository.countSuccessByUserAfterDate(t.user(), FROM)),
+                query("CallLog.findAverageWakeTimeByUser", t -> t.callLogRepository.findAverageWakeTimeByUser(t.user())),
+                query("CallLog.aggregateDailyByUserId", t -> t.callLogRepository.aggregateDailyByUserId(USER_ID)),
+                query("CallLog.findRecentByUserWithUser",
+                        t -> t.callLogRepository.findRecentByUserWithUser(t.user(), PageRequest.of(0, 7))),
+                query("CallLog.findRecentByUser", t -> t.callLogRepository.findRecentByUser(t.user(), PageRequest.of(0, 7))),
+                query("CallLog.findFirstByUserIdAndResultOrderByIdDesc",
+                        t -> t.callLogRepository.findFirstByUserIdAndResultOrderByIdDesc(USER_ID, CallLog.CallResult.IN_PROGRESS)),
+                query("CallLog.findStaleInProgress",
+                        t -> t.callLogRepository.findStaleInProgress(FROM, PageRequest.of(0, 100))),
+                query("CallLog.closeCall",
+                        t -> t.inRollback(() -> t.callLogRepository.closeCall(
+                                CALL_LOG_ID, TO, CallLog.CallResult.FAIL_NO_TALK, 0))),
+                query("CallLog.findLegacyConversationsAfter",
+                        t -> t.callLogRepository.findLegacyConversationsAfter(CALL_LOG_ID, PageRequest.of(0, 100))),
+                query("CallLog.findByIdAndUserId", t -> t.callLogRepository.findByIdAndUserId(CALL_LOG_ID, 43L)),
+
+                // CallUtteranceRepository
+                query("CallUtterance.findByCallLogId", t -> t.callUtteranceRepository.findByCallLogId(CALL_LOG_ID)),
+                query("CallUtterance.findLatestByCallLogId",
+                        t -> t.callUtteranceRepository.findLatestByCallLogId(CALL_LOG_ID, PageRequest.of(0, 5))),
+
+                // PointsHistoryRepository
+                query("PointsHistory.findByUserOrderByCreatedAtDesc",
+                        t -> t.pointsHistoryRepository.findByUserOrderByCreatedAtDesc(t.user(), PAGE)),
+                query("PointsHistory.findByUserAndTypeOrderByCreatedAtDesc",
+                        t -> t.pointsHistoryRepository.findByUserAndTypeOrderByCreatedAtDesc(
+                                t.user(), PointsHistory.PointType.GRADE, PAGE)),
+                query("PointsHistory.findByUserWithUserOrderByCreatedAtDesc",
+                        t -> t.pointsHistoryRepository.findByUserWithUserOrderByCreatedAtDesc(t.user(), PAGE)),
+                query("PointsHistory.findByUserAndTypeWithUserOrderByCreatedAtDesc",
+                        t -> t.pointsHistoryRepository.findByUserAndTypeWithUserOrderByCreatedAtDesc(
+                                t.user(), PointsHistory.PointType.GRADE, PAGE)),
+                query("PointsHistory.findByUserIdBeforeCursor",
+                        t -> t.pointsHistoryRepository.findByUserIdBeforeCursor(USER_ID, CURSOR_AT, CURSOR_ID, CURSOR_PAGE)),
+                query("PointsHistory.findByUserIdAndTypeBeforeCursor",
+                        t -> t.pointsHistoryRepository.findByUserIdAndTypeBeforeCursor(
+                                USER_ID, PointsHistory.PointType.GRADE, CURSOR_AT, CURSOR_ID, CURSOR_PAGE)),
+                query("PointsHistory.sumAmountByUserAndType",
+                        t -> t.pointsHistoryRepository.sumAmountByUserAndType(t.user(), PointsHistory.PointType.GRADE)),
+                query("PointsHistory.sumAmountByUserIdAndType",
+                        t -> t.pointsHistoryRepository.sumAmountByUserIdAndType(USER_ID, PointsHistory.PointType.GRADE)),
+                query("PointsHistory.sumAmountByUserAndTypeAfterDate",
+                        t -> t.pointsHistoryRepository.sumAmountByUserAndTypeAfterDate(
+                                t.user(), PointsHistory.PointType.GRADE, FROM)),
+                query("PointsHistory.sumBalancesByUserIds",
+                        t -> t.pointsHistoryRepository.sumBalancesByUserIds(List.of(5L, 6L, USER_ID))),
+                query("PointsHistory.sumDailyAmountByUserIdAndType",
+                        t -> t.pointsHistoryRepository.sumDailyAmountByUserIdAndType(USER_ID, PointsHistory.PointType.GRADE)),
+                query("PointsHistory.countByUser", t -> t.pointsHistoryRepository.countByUser(t.user())),
+                query("PointsHistory.countByUser_Id", t -> t.pointsHistoryRepository.countByUser_Id(USER_ID)),
+                query("PointsHistory.countByUser_IdAndType",
+                        t -> t.pointsHistoryRepository.countByUser_IdAndType(USER_ID, PointsHistory.PointType.GRADE)),
+                query("PointsHistory.findByUserAndDateRangeWithUserOrderByCreatedAtDesc",
+                        t -> t.pointsHistoryRepository.findByUserAndDateRangeWithUserOrderByCreatedAtDesc(t.user(), FROM, TO, PAGE)),
+                query("PointsHistory.findByUserAndDateRangeOrderByCreatedAtDesc",
+                        t -> t.pointsHistoryRepository.findByUserAndDateRangeOrderByCreatedAtDesc(t.user(), FROM, TO, PAGE)),
+
+                // UserAlarmRepository
+                query("UserAlarm.findByUser_IdAndActiveOrderByAlarmTimeDesc",
+                        t -> t.userAlarmRepository.findByUser_IdAndActiveOrderByAlarmTimeDesc(USER_ID, true)),
+                query("UserAlarm.findByUser_IdOrderByAlarmTimeDesc",
+                        t -> t.userAlarmRepository.findByUser_IdOrderByAlarmTimeDesc(USER_ID)),
+                query("UserAlarm.findByIdAndUser_Id", t -> t.userAlarmRepository.findByIdAndUser_Id(CALL_LOG_ID, 43L)),
+                query("UserAlarm.findActiveAlarmsBetween",
+                        t -> t.userAlarmRepository.findActiveAlarmsBetween(FROM, FROM.plusMinutes(1))),
+                query("UserAlarm.findActiveScheduleAfter",
+                        t -> t.userAlarmRepository.findActiveScheduleAfter(FROM, CALL_LOG_ID, PageRequest.of(0, 500))),
+                query("UserAlarm.countByUser_IdAndActive", t -> t.userAlarmRepository.countByUser_IdAndActive(USER_ID, true)),
+                query("UserAlarm.findFirstByUser_IdAndActiveTrueAndAlarmTimeAfterOrderByAlarmTimeAsc",
+                        t -> t.userAlarmRepository.findFirstByUser_IdAndActiveTrueAndAlarmTimeAfterOrderByAlarmTimeAsc(USER_ID, FROM)),
+
+                // MissionResultRepository
+                query("MissionResult.findByCallLog", t -> t.missionResultRepository.findByCallLog(t.callLog())),
+                query("MissionResult.findByCallLogWithCallLog",
+                        t -> t.missionResultRepository.findByCallLogWithCallLog(t.callLog())),
+                query("MissionResult.findByCallLogAndMissionType",
+                        t -> t.missionResultRepository.findByCallLogAndMissionType(t.callLog(), MissionResult.MissionType.MATH)),
+                query("MissionResult.findByCallLogAndMissionTypeWithCallLog",
+                        t -> t.missionResultRepository.findByCallLogAndMissionTypeWithCallLog(
+                                t.callLog(), MissionResult.MissionType.MATH)),
+                query("MissionResult.countSuccessByUserId", t -> t.missionResultRepository.countSuccessByUserId(USER_ID)),
+                query("MissionResult.countTotalByUserId", t -> t.missionResultRepository.countTotalByUserId(USER_ID)),
+                query("MissionResult.countSuccessByUserIdAndMissionType",
+                        t -> t.missionResultRepository.countSuccessByUserIdAndMissionType(USER_ID, MissionResult.MissionType.MATH)),
+                query("MissionResult.countTotalByUserIdAndMissionType",
+                        t -> t.missionResultRepository.countTotalByUserIdAndMissionType(USER_ID, MissionResult.MissionType.MATH)),
+                query("MissionResult.aggregateDailyByUserIdAndMissionType",
+                        t -> t.missionResultRepository.aggregateDailyByUserIdAndMissionType(USER_ID, FROM, TO)),
+                query("MissionResult.findByUserIdBeforeCursor",
+                        t -> t.missionResultRepository.findByUserIdBeforeCursor(USER_ID, CURSOR_AT, CURSOR_ID, CURSOR_PAGE)),
+
+                // UserDailyStatsRepository
+                query("UserDailyStats.findByUser_IdAndStatDateBetweenOrderByStatDateAsc",
+                        t -> t.userDailyStatsRepository.findByUser_IdAndStatDateBetweenOrderByStatDateAsc(
+                                USER_ID, FROM.toLocalDate(), TO.toLocalDate())),
+                query("UserDailyStats.aggregateOverviewByUserId",
+                        t -> t.userDailyStatsRepository.aggregateOverviewByUserId(USER_ID, LocalDate.of(2025, 3, 1),
+                                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 24))),
+                query("UserDailyStats.incrementCallCounters",
+                        t -> t.inRollback(() -> t.userDailyStatsRepository.incrementCallCounters(
+                                USER_ID, FROM.toLocalDate(), 1, 0, 0, 0, 420L))),
+                query("UserDailyStats.incrementGradePoints",
+                        t -> t.inRollback(() -> t.userDailyStatsRepository.incrementGradePoints(USER_ID, FROM.toLocalDate(), 10))),
+                query("UserDailyStats.deleteByUserId",
+                        t -> t.inRollback(() -> t.userDailyStatsRepository.deleteByUserId(USER_ID))),
+
+                // UserRepository
+                query("User.findByEmail", t -> t.userRepository.findByEmail("user7@test.com")),
+                query("User.existsByEmail", t -> t.userRepository.existsByEmail("user7@test.com")),
+                query("User.findUserByEmail", t -> t.userRepository.findUserByEmail("user7@test.com")),
+                query("User.findPointsByUserId", t -> t.userRepository.findPointsByUserId(USER_ID)),
+                query("User.findExistingIds", t -> t.userRepository.findExistingIds(List.of(5L, 6L, USER_ID))),
+                query("User.findIdsAfter", t -> t.userRepository.findIdsAfter(50L, PageRequest.of(0, 20))),
+                query("User.creditConsumptionBalance",
+                        t -> t.inRollback(() -> t.userRepository.creditConsumptionBalance(USER_ID, 10))),
+                query("User.creditGradeBalance",
+                        t -> t.inRollback(() -> t.userRepository.creditGradeBalance(USER_ID, 10))),
+                query("User.debitConsumptionBalance",
+                        t -> t.inRollback(() -> t.userRepository.debitConsumptionBalance(USER_ID, 10))),
+                query("User.debitGradeBalance",
+                        t -> t.inRollback(() -> t.userRepository.debitGradeBalance(USER_ID, 10))),
+                query("User.repairBalances",
+                        t -> t.inRollback(() -> t.userRepository.repairBalances(USER_ID, 10, 20, 0, 0)))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("리포지토리 조회는 전체 테이블 스캔 없이 인덱스로 처리")
+    void explain_ShouldNotContainTableScan(String query, RepositoryCall call) {
+        // When
+        List<RecordedStatement> statements = dataSource.record(() -> call.run(this));
+
+        // Then
+        assertFalse(statements.isEmpty(), () -> query + " 실행된 SQL 없음");
+        for (RecordedStatement statement : statements) {
+            String sql = statement.inlined();
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+            assertFalse(plan.toLowerCase().contains("tablescan"), () -> query + " 전체 스캔 발생:\n" + plan);
+        }
+    }
+
+    private static Arguments query(String name, RepositoryCall call) {
+        return Arguments.of(name, call);
+    }
+
+    // 조회 없이 ID만 가진 참조 (파라미터 바인딩용)
+    private User user() {
+        return userRepository.getReferenceById(USER_ID);
+    }
+
+    private CallLog callLog() {
+        return callLogRepository.getReferenceById(CALL_LOG_ID);
+    }
+
+    // 변경 쿼리는 실행 계획만 기록하고 되돌림
+    private void inRollback(Runnable update) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            update.run();
+            status.setRollbackOnly();
+        });
+    }
+
+    @FunctionalInterface
+    interface RepositoryCall {
+        void run(SchemaIndexPlanTest test);
+    }
+
+    /**
+     * 실행된 PreparedStatement의 SQL과 바인딩 값 (EXPLAIN용으로 값을 리터럴로 치환)
+     */
+    record RecordedStatement(String sql, List<Object> parameters) {
+
+        String inlined() {
+            StringBuilder inlined = new StringBuilder(sql.length() + parameters.size() * 8);
+            int index = 0;
+            boolean quoted = false;
+            for (char ch : sql.toCharArray()) {
+                if (ch == '\'') {
+                    quoted = !quoted;
+                }
+                if (ch == '?' && !quoted) {
+                    inlined.append(literal(parameters.get(index++)));
+                } else {
+                    inlined.append(ch);
+                }
+            }
+            return inlined.toString();
+        }
+
+        private static String literal(Object value) {
+            if (value == null) {
+                return "NULL";
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                return value.toString();
+            }
+            if (value instanceof LocalDateTime time) {
+                return "TIMESTAMP '" + Timestamp.valueOf(time) + "'";
+            }
+            if (value instanceof Timestamp time) {
+                return "TIMESTAMP '" + time + "'";
+            }
+            if (value instanceof LocalDate || value instanceof java.sql.Date) {
+                return "DATE '" + value + "'";
+            }
+            return "'" + value.toString().replace("'", "''") + "'";
+        }
+    }
+
+    /**
+     * 기록 중에 실행된 PreparedStatement를 모으는 DataSource (Connection/PreparedStatement를 동적 프록시로 감쌈)
+     */
+    static class RecordingDataSource extends DelegatingDataSource {
+
+        private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+        private volatile boolean recording;
+
+        RecordingDataSource(DataSource target) {
+            super(target);
+        }
+
+        List<RecordedStatement> record(Runnable call) {
+            statements.clear();
+            recording = true;
+            try {
+                call.run();
+            } finally {
+                recording = false;
+            }
+            return List.copyOf(statements);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrap(super.getConnection(username, password));
+        }
+
+        private Connection wrap(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                            return wrap(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private PreparedStatement wrap(PreparedStatement statement, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            parameters.put(index, name.equals("setNull") ? null : args[1]);
+                        } else if (recording && name.startsWith("execute")) {
+                            statements.add(new RecordedStatement(sql, new CopyOnWriteArrayList<>(parameters.values())));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.bespring.global.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CircuitBreaker 테스트")
+class CircuitBreakerTest {
+
+    private MutableClock clock;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-15T07:00:00Z"));
+        circuitBreaker = new CircuitBreaker("test", 10, 4, 0.5, Duration.ofSeconds(30), 2, clock);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 이전에는 실패해도 열리지 않음")
+    void staysClosedBelowMinimumCalls() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertTrue(circuitBreaker.tryAcquirePermission());
+            circuitBreaker.onFailure();
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치에 도달하면 열리고 즉시 거절")
+    void opensWhenFailureRateReachesThreshold() {
+        // Given
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        // When
+        circuitBreaker.onFailure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("open 기간이 지나면 half-open 탐색 호출만 허용하고 모두 성공하면 닫힘")
+    void halfOpenProbesCloseCircuitOnSuccess() {
+        // Given
+        openCircuit();
+        clock.advance(Duration.ofSeconds(30));
+
+        // When & Then
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("half-open 탐색 호출이 실패하면 다시 열림")
+    void halfOpenFailureReopensCircuit() {
+        // Given
+        openCircuit();
+        clock.advance(Duration.ofSeconds(31));
+        assertTrue(circuitBreaker.tryAcquirePermission());
+
+        // When
+        circuitBreaker.onFailure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("오래된 실패는 윈도우에서 밀려나 실패율에 반영되지 않음")
+    void slidingWindowDropsOldOutcomes() {
+        // Given: 실패 3회 후 성공 10회로 윈도우를 채움
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        for (int i = 0; i < 10; i++) {
+            circuitBreaker.onSuccess();
+        }
+
+        // When: 윈도우 내 실패 4/10 (임계치 미만)
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
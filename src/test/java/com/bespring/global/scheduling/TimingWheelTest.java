@@ -0,0 +1,56 @@
+package com.bespring.global.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimingWheel 테스트")
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 긴 지연도 deadline 이후에 실행")
+    void schedule_ShouldRunAfterDelayAcrossRounds() throws Exception {
+        // Given
+        try (TimingWheel wheel = new TimingWheel("test", 10, 8, Runnable::run)) {
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicLong firedAt = new AtomicLong();
+            long start = System.nanoTime();
+
+            // When (10ms x 8 슬롯 = 80ms 휠에서 200ms 지연)
+            wheel.schedule(() -> {
+                firedAt.set(System.nanoTime());
+                latch.countDown();
+            }, 200);
+
+            // Then
+            assertTrue(latch.await(2, TimeUnit.SECONDS));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(firedAt.get() - start) >= 190);
+            assertEquals(0, wheel.getPendingCount());
+        }
+    }
+
+    @Test
+    @DisplayName("취소된 작업은 실행되지 않음")
+    void cancel_ShouldPreventExecution() throws Exception {
+        // Given
+        try (TimingWheel wheel = new TimingWheel("test", 10, 8, Runnable::run)) {
+            AtomicBoolean fired = new AtomicBoolean();
+            CountDownLatch latch = new CountDownLatch(1);
+            TimingWheel.Timeout timeout = wheel.schedule(() -> fired.set(true), 50);
+            wheel.schedule(latch::countDown, 150);
+
+            // When
+            timeout.cancel();
+
+            // Then
+            assertTrue(latch.await(2, TimeUnit.SECONDS));
+            assertFalse(fired.get());
+        }
+    }
+}
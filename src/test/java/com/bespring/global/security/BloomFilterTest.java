@@ -0,0 +1,55 @@
+package com.bespring.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 항목은 항상 포함으로 판정 (false negative 없음)")
+    void mightContain_ShouldNeverReturnFalseNegative() throws Exception {
+        // Given
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            filter.put(sha256("revoked-" + i));
+        }
+
+        // Then
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.mightContain(sha256("revoked-" + i)));
+        }
+    }
+
+    @Test
+    @DisplayName("오탐률이 설정값 근처로 유지")
+    void mightContain_FalsePositiveRateShouldStayNearTarget() throws Exception {
+        // Given
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put(sha256("revoked-" + i));
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(sha256("active-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // Then (목표 1%, 여유를 두고 3% 미만)
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    private static byte[] sha256(String value) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
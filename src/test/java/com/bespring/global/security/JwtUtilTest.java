@@ -61,6 +61,24 @@ class JwtUtilTest {
         assertNull(extractedUserId);
     }
 
+    @Test
+    @DisplayName("단일 검증으로 사용자 ID와 만료 시각 반환 테스트")
+    void verify_WithValidToken_ShouldReturnUserIdAndExpiration() {
+        // Given
+        Long userId = 42L;
+        long before = System.currentTimeMillis();
+        String token = jwtUtil.generateToken(userId);
+
+        // When
+        VerifiedToken verified = jwtUtil.verify(token);
+
+        // Then
+        assertNotNull(verified);
+        assertEquals(userId, verified.getUserId());
+        assertTrue(verified.getExpiresAtMillis() > before);
+        assertNull(jwtUtil.verify("invalid.token.here"));
+    }
+
     @Test
     @DisplayName("토큰 유효성 검증 테스트 - 유효한 토큰")
     void isTokenValid_WithValidToken_ShouldReturnTrue() {